@@ -18,8 +18,10 @@ package com.microsoft.playwright.impl.driver;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static com.microsoft.playwright.impl.driver.DriverLogging.logWithTimestamp;
 
@@ -35,6 +37,8 @@ public abstract class Driver {
   public static final String PLAYWRIGHT_DRIVER_DIR = "PLAYWRIGHT_DRIVER_DIR";
 
   private static Driver instance;
+  // Durations of the initialization steps in milliseconds, in the order they ran.
+  private final Map<String, Long> initializationTimings = new LinkedHashMap<>();
 
   private static class PreinstalledDriver extends Driver {
     private final Path driverDir;
@@ -98,9 +102,11 @@ public abstract class Driver {
   }
   public static Driver createAndInstall(Map<String, String> env, Boolean installBrowsers) {
     try {
+      long start = System.nanoTime();
       Driver instance = newInstance();
       logMessage("initializing driver");
       instance.initialize(env, installBrowsers);
+      instance.recordTiming("initialize", start);
       logMessage("driver initialized.");
       return instance;
     } catch (Exception exception) {
@@ -125,6 +131,16 @@ public abstract class Driver {
 
   public abstract Path driverDir();
 
+  public Map<String, Long> initializationTimings() {
+    return Collections.unmodifiableMap(initializationTimings);
+  }
+
+  protected void recordTiming(String phase, long startNanos) {
+    long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    initializationTimings.put(phase, millis);
+    logMessage(phase + " took " + millis + " ms");
+  }
+
   protected static void logMessage(String message) {
     // This matches log format produced by the server.
     logWithTimestamp("pw:install " + message);
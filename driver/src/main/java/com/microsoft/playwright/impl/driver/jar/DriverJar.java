@@ -19,22 +19,45 @@ package com.microsoft.playwright.impl.driver.jar;
 import com.microsoft.playwright.impl.driver.Driver;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
 
 public class DriverJar extends Driver {
   private static final String PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD = "PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD";
   private static final String SELENIUM_REMOTE_URL = "SELENIUM_REMOTE_URL";
-  private final Path driverTempDir;
-  private final boolean deleteOnExit;
+  private static final String CACHE_DIR_PROPERTY = "playwright.driver.cache.dir";
+  private Path driverTempDir;
+  private boolean deleteOnExit;
   private Path preinstalledNodePath;
 
   public DriverJar() throws IOException {
-    this(createTempDriverDir(), true);
+    // With the shared cache the directory is only known once the driver contents are hashed in initialize().
+    this(System.getProperty(CACHE_DIR_PROPERTY) == null ? createTempDriverDir() : null, true);
     String nodePath = System.getProperty("playwright.nodejs.path");
     if (nodePath != null) {
       preinstalledNodePath = Paths.get(nodePath);
@@ -42,13 +65,13 @@ public class DriverJar extends Driver {
         throw new RuntimeException("Invalid Node.js path specified: " + nodePath);
       }
     }
-    logMessage("created DriverJar: " + driverTempDir);
+    logMessage("created DriverJar: " + (driverTempDir == null ? "cache in " + System.getProperty(CACHE_DIR_PROPERTY) : driverTempDir));
   }
 
   private DriverJar(Path driverDir, boolean deleteOnExit) {
     this.driverTempDir = driverDir;
     this.deleteOnExit = deleteOnExit;
-    if (deleteOnExit) {
+    if (deleteOnExit && driverDir != null) {
       driverTempDir.toFile().deleteOnExit();
     }
   }
@@ -82,10 +105,121 @@ public class DriverJar extends Driver {
       // Pass the env variable to the driver process.
       env.put(PLAYWRIGHT_NODEJS_PATH, preinstalledNodePath.toString());
     }
-    extractDriverToTempDir();
-    logMessage("extracted driver from jar to " + driverDir());
-    if (installBrowsers)
+    long start = System.nanoTime();
+    String cacheDir = System.getProperty(CACHE_DIR_PROPERTY);
+    String cacheKey = cacheDir == null ? null : cacheKey();
+    if (cacheKey != null) {
+      installToCache(Paths.get(cacheDir), cacheKey);
+      logMessage("using cached driver in " + driverDir());
+    } else {
+      if (driverTempDir == null) {
+        driverTempDir = createTempDriverDir();
+        driverTempDir.toFile().deleteOnExit();
+      }
+      extractDriverToTempDir();
+      logMessage("extracted driver from jar to " + driverDir());
+    }
+    recordTiming("extractDriver", start);
+    if (installBrowsers) {
+      start = System.nanoTime();
       installBrowsers(env);
+      recordTiming("installBrowsers", start);
+    }
+  }
+
+  // Extracts the driver into <cacheRoot>/<version>-<hash> unless another process has already done so.
+  // Extraction happens in a staging directory that is renamed into place while holding a file lock,
+  // so concurrent JVMs either see a complete directory or wait for the one that is extracting.
+  private void installToCache(Path cacheRoot, String cacheKey) throws IOException, URISyntaxException {
+    Path cachedDir = cacheRoot.resolve(cacheKey);
+    deleteOnExit = false;
+    if (!Files.exists(cachedDir)) {
+      Files.createDirectories(cacheRoot);
+      // FileLock is held per JVM, threads of the same JVM have to be serialized separately.
+      synchronized (DriverJar.class) {
+        Path lockFile = cacheRoot.resolve(cachedDir.getFileName() + ".lock");
+        try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = channel.lock()) {
+          if (!Files.exists(cachedDir)) {
+            Path stagingDir = Files.createTempDirectory(cacheRoot, cachedDir.getFileName() + ".tmp-");
+            try {
+              driverTempDir = stagingDir;
+              extractDriverToTempDir();
+              Files.move(stagingDir, cachedDir, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+              deleteRecursively(stagingDir);
+            }
+            logMessage("extracted driver from jar to " + cachedDir);
+          }
+        }
+      }
+    }
+    driverTempDir = cachedDir;
+  }
+
+  // Returns null if the driver resources cannot be hashed cheaply, the driver is then extracted to a temp dir.
+  private String cacheKey() throws IOException, URISyntaxException {
+    String version = Driver.class.getPackage().getImplementationVersion();
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new RuntimeException(e);
+    }
+    // The cached directory only contains Node.js when it is not preinstalled.
+    update(digest, preinstalledNodePath == null ? platformDir() : "no-node");
+    URI uri = DriverJar.class.getClassLoader().getResource("driver/package").toURI();
+    if ("jar".equals(uri.getScheme())) {
+      // Hash sizes and CRCs from the jar's central directory, no need to decompress anything. Nested jars
+      // (e.g. spring boot) are covered by the CRC of their own entry.
+      String spec = uri.getRawSchemeSpecificPart();
+      URI jarUri = new URI(spec.substring(0, spec.indexOf("!/")));
+      if (!"file".equals(jarUri.getScheme())) {
+        return null;
+      }
+      Path jarPath = Paths.get(jarUri);
+      try (ZipFile zipFile = new ZipFile(jarPath.toFile())) {
+        for (Enumeration<? extends ZipEntry> entries = zipFile.entries(); entries.hasMoreElements(); ) {
+          ZipEntry entry = entries.nextElement();
+          if (entry.getName().startsWith("driver/") || entry.getName().endsWith(".jar")) {
+            update(digest, entry.getName() + ":" + entry.getSize() + ":" + entry.getCrc());
+          }
+        }
+      }
+    } else if ("file".equals(uri.getScheme())) {
+      Path root = Paths.get(uri).getParent();
+      try (Stream<Path> paths = Files.walk(root)) {
+        List<Path> files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        for (Path file : files) {
+          BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+          update(digest, root.relativize(file) + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis());
+        }
+      }
+    } else {
+      return null;
+    }
+    StringBuilder hash = new StringBuilder();
+    byte[] bytes = digest.digest();
+    for (int i = 0; i < 8; i++) {
+      hash.append(String.format("%02x", bytes[i]));
+    }
+    return (version == null ? "dev" : version) + "-" + hash;
+  }
+
+  private static void update(MessageDigest digest, String value) {
+    digest.update(value.getBytes(StandardCharsets.UTF_8));
+    digest.update((byte) 0);
+  }
+
+  private static void deleteRecursively(Path dir) throws IOException {
+    if (!Files.exists(dir)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(dir)) {
+      for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+        Files.delete(path);
+      }
+    }
   }
 
   private void installBrowsers(Map<String, String> env) throws IOException, InterruptedException {
@@ -164,26 +298,93 @@ public class DriverJar extends Driver {
       // have predictable results.
       // See https://github.com/microsoft/playwright-java/issues/306
       Path srcRootDefaultFs = Paths.get(srcRoot.toString());
-      Files.walk(srcRoot).forEach(fromPath -> {
-        Path relative = srcRootDefaultFs.relativize(Paths.get(fromPath.toString()));
-        Path toPath = destDir.resolve(relative.toString());
-        try {
+      long start = System.nanoTime();
+      List<Path> files = new ArrayList<>();
+      // Directories are created up front so that files can then be copied in any order.
+      try (Stream<Path> paths = Files.walk(srcRoot)) {
+        for (Path fromPath : (Iterable<Path>) paths::iterator) {
           if (Files.isDirectory(fromPath)) {
+            Path toPath = destDir.resolve(srcRootDefaultFs.relativize(Paths.get(fromPath.toString())).toString());
             Files.createDirectories(toPath);
-          } else {
-            Files.copy(fromPath, toPath);
-            if (isExecutable(toPath)) {
-              toPath.toFile().setExecutable(true, true);
+            if (deleteOnExit) {
+              toPath.toFile().deleteOnExit();
             }
+          } else {
+            files.add(fromPath);
           }
-          if (deleteOnExit) {
-            toPath.toFile().deleteOnExit();
-          }
-        } catch (IOException e) {
-          throw new RuntimeException("Failed to extract driver from " + uri + ", full uri: " + originalUri, e);
         }
+      }
+      AtomicInteger skipped = new AtomicInteger();
+      ExecutorService executor = Executors.newFixedThreadPool(extractThreads(files.size()), runnable -> {
+        Thread thread = new Thread(runnable, "Playwright-DriverExtractor");
+        thread.setDaemon(true);
+        return thread;
       });
+      try {
+        List<Future<?>> futures = new ArrayList<>();
+        for (Path fromPath : files) {
+          Path toPath = destDir.resolve(srcRootDefaultFs.relativize(Paths.get(fromPath.toString())).toString());
+          futures.add(executor.submit(() -> {
+            try {
+              if (isUpToDate(fromPath, toPath)) {
+                skipped.incrementAndGet();
+              } else {
+                Files.copy(fromPath, toPath, StandardCopyOption.REPLACE_EXISTING);
+              }
+              if (isExecutable(toPath)) {
+                toPath.toFile().setExecutable(true, true);
+              }
+              if (deleteOnExit) {
+                toPath.toFile().deleteOnExit();
+              }
+            } catch (IOException e) {
+              throw new RuntimeException("Failed to extract driver from " + uri + ", full uri: " + originalUri, e);
+            }
+          }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException) {
+          throw (RuntimeException) e.getCause();
+        }
+        throw new RuntimeException("Failed to extract driver from " + uri + ", full uri: " + originalUri, e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted while extracting driver from " + uri, e);
+      } finally {
+        executor.shutdownNow();
+      }
+      logMessage("extracted " + files.size() + " files (" + skipped.get() + " up to date) from " + resourcePath +
+        " in " + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) + " ms");
+    }
+  }
+
+  private static int extractThreads(int fileCount) {
+    return Math.max(1, Math.min(fileCount, Math.min(Runtime.getRuntime().availableProcessors(), 8)));
+  }
+
+  // Files left by a previous installDriverTo() are kept when their size and CRC match the jar entry.
+  // Outside of a jar there is no stored CRC, such files are always copied.
+  private static boolean isUpToDate(Path fromPath, Path toPath) throws IOException {
+    if (!Files.exists(toPath) || Files.size(toPath) != Files.size(fromPath)) {
+      return false;
+    }
+    Object crc;
+    try {
+      crc = Files.getAttribute(fromPath, "zip:crc");
+    } catch (UnsupportedOperationException | IllegalArgumentException e) {
+      return false;
+    }
+    CRC32 actual = new CRC32();
+    byte[] buffer = new byte[64 * 1024];
+    try (InputStream in = Files.newInputStream(toPath)) {
+      for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+        actual.update(buffer, 0, read);
+      }
     }
+    return crc instanceof Long && (Long) crc == actual.getValue();
   }
 
   private URI maybeExtractNestedJar(final URI uri) throws URISyntaxException {
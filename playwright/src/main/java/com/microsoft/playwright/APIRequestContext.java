@@ -18,6 +18,7 @@ package com.microsoft.playwright;
 
 import com.microsoft.playwright.options.*;
 import java.nio.file.Path;
+import java.util.*;
 
 /**
  * This API is used for the Web API testing. You can use it to trigger API endpoints, configure micro-services, prepare
@@ -489,5 +490,42 @@ public interface APIRequestContext {
    * @since v1.60
    */
   Tracing tracing();
+  /**
+   * Sends the requests without waiting for each response before sending the next one, so that they are executed
+   * concurrently. At most 16 requests are in flight at a time. Returns the responses in the order of the requests.
+   *
+   * <p> If any request fails, the successful responses are disposed and the first error is thrown after all requests have
+   * completed. The options of all requests are validated before the first one is sent.
+   *
+   * @param requests Requests to send.
+   */
+  default List<APIResponse> fetchAll(List<FetchRequest> requests) {
+    return fetchAll(requests, 16);
+  }
+  /**
+   * Sends the requests without waiting for each response before sending the next one, so that they are executed
+   * concurrently. Returns the responses in the order of the requests.
+   *
+   * <p> If any request fails, the successful responses are disposed and the first error is thrown after all requests have
+   * completed. The options of all requests are validated before the first one is sent.
+   *
+   * @param requests Requests to send.
+   * @param maxConcurrency Maximum number of requests in flight at a time.
+   */
+  List<APIResponse> fetchAll(List<FetchRequest> requests, int maxConcurrency);
+  /**
+   * Sets the policy for disposing responses automatically. By default responses are kept until {@link
+   * com.microsoft.playwright.APIResponse#dispose APIResponse.dispose()} or {@link
+   * com.microsoft.playwright.APIRequestContext#dispose APIRequestContext.dispose()} is called. Reading the body of a
+   * response disposed by the policy throws an error. Only the responses created while a policy is set are tracked.
+   *
+   * @param retention Retention limits, {@code null} to keep all responses.
+   */
+  void setResponseRetention(ResponseRetention retention);
+  /**
+   * Returns counters for the responses tracked by the retention policy. The size of a body is taken from its {@code
+   * Content-Length} header until the body has been read, bodies of unknown size are counted once they have been read.
+   */
+  RetainedResponses retainedResponses();
 }
 
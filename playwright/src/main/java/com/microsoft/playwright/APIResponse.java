@@ -17,6 +17,11 @@
 package com.microsoft.playwright;
 
 import com.microsoft.playwright.options.*;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 
 /**
@@ -93,5 +98,28 @@ public interface APIResponse {
    * @since v1.16
    */
   String url();
+  /**
+   * Returns the response body as a stream. Unlike {@link com.microsoft.playwright.APIResponse#body APIResponse.body()} the
+   * body is decoded as it is read, so large bodies are not held in memory twice.
+   */
+  default InputStream bodyStream() {
+    return new ByteArrayInputStream(body());
+  }
+  /**
+   * Saves the response body to the given path. Parent directories are created if needed.
+   *
+   * @param path Path where the body should be saved.
+   */
+  default void saveAs(Path path) {
+    try {
+      Path dir = path.toAbsolutePath().getParent();
+      if (dir != null) {
+        Files.createDirectories(dir);
+      }
+      Files.write(path, body());
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to save response body to " + path, e);
+    }
+  }
 }
 
@@ -1666,5 +1666,36 @@ public interface BrowserContext extends AutoCloseable {
    * @since v1.9
    */
   Page waitForPage(WaitForPageOptions options, Runnable callback);
+  /**
+   * Returns the storage state changes since the previous call to this method as JSON, or the whole state on the first call.
+   * The delta contains added and changed {@code cookies} and {@code origins}, and the {@code removedCookies} and {@code
+   * removedOrigins}. It can be applied to another context with {@link
+   * com.microsoft.playwright.BrowserContext#applyStorageStateDelta BrowserContext.applyStorageStateDelta()}.
+   *
+   * <p> Each context keeps a single checkpoint: every call replaces it, so the changes are only reported to the first caller
+   * after they happen. IndexedDB is not part of the delta.
+   */
+  String storageStateDelta();
+  /**
+   * Applies a delta returned by {@link com.microsoft.playwright.BrowserContext#storageStateDelta
+   * BrowserContext.storageStateDelta()} to this context. Cookie-only deltas are applied without touching the rest of the
+   * state.
+   *
+   * <p> Deltas with local storage changes replace the whole state of the context; the IndexedDB contents of the context
+   * are kept.
+   *
+   * @param delta Storage state delta.
+   */
+  void applyStorageStateDelta(String delta);
+  /**
+   * Starts appending a JSON line with the URL, method, headers, status, timing and failure of every request that finishes
+   * or fails in this context to the file at {@code path}. The data is taken from the network events, without extra
+   * round trips to the browser. The lines are serialized and written on a background thread, if it falls behind by more
+   * than a thousand requests, event dispatch waits for it. Capturing stops when the returned object is closed or the
+   * context is closed.
+   *
+   * @param path Path of the file to append to. Parent directories are created if needed.
+   */
+  NetworkCapture captureNetwork(Path path);
 }
 
@@ -16,6 +16,7 @@
 
 package com.microsoft.playwright;
 
+import com.microsoft.playwright.impl.PlaywrightImpl;
 import com.microsoft.playwright.impl.driver.Driver;
 import com.microsoft.playwright.impl.driver.jar.DriverJar;
 
@@ -38,6 +39,12 @@ public class CLI {
       installDriver(args);
       return;
     }
+    // Reports where Playwright.create() spends its time, first in a fresh JVM (cold) and then with the
+    // driver already installed (warm).
+    if (args.length > 0 && "measure-startup".equals(args[0])) {
+      measureStartup(args);
+      return;
+    }
     Driver driver = Driver.ensureDriverInstalled(Collections.emptyMap(), false);
     ProcessBuilder pb = driver.createProcessBuilder();
     pb.command().addAll(asList(args));
@@ -50,6 +57,19 @@ public class CLI {
     System.exit(process.waitFor());
   }
 
+  private static void measureStartup(String[] args) {
+    int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+    for (int i = 0; i < iterations; i++) {
+      try (PlaywrightImpl playwright = PlaywrightImpl.create(null)) {
+        if (i == 0) {
+          Driver driver = Driver.ensureDriverInstalled(Collections.emptyMap(), false);
+          System.out.println("driver: " + driver.initializationTimings());
+        }
+        System.out.println((i == 0 ? "cold: " : "warm: ") + playwright.startupTiming());
+      }
+    }
+  }
+
   private static void installDriver(String[] args) throws IOException, URISyntaxException {
     String dir = args.length > 1 ? args[1] : System.getenv(Driver.PLAYWRIGHT_DRIVER_DIR);
     if (dir == null) {
@@ -0,0 +1,29 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+/**
+ * Network capture started by {@link BrowserContext#captureNetwork BrowserContext.captureNetwork()}.
+ */
+public interface NetworkCapture extends AutoCloseable {
+  /**
+   * Stops capturing and waits until all captured requests have been written to the file. Throws {@link
+   * PlaywrightException} if the file could not be written.
+   */
+  @Override
+  void close();
+}
@@ -8720,5 +8720,16 @@ public interface Page extends AutoCloseable {
    * @since v1.8
    */
   List<Worker> workers();
+  /**
+   * Starts collecting the largest contentful paint, cumulative layout shift and long tasks in this page and in the
+   * documents it navigates to. The values are buffered in the page and returned by {@link
+   * com.microsoft.playwright.Page#metrics Page.metrics()}. Calling it again has no effect.
+   */
+  void startMetrics();
+  /**
+   * Returns the navigation, paint and resource timings and the JavaScript heap usage of the current document in one call,
+   * plus the metrics collected since {@link com.microsoft.playwright.Page#startMetrics Page.startMetrics()}.
+   */
+  PageMetrics metrics();
 }
 
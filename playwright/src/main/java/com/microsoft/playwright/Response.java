@@ -17,6 +17,9 @@
 package com.microsoft.playwright;
 
 import com.microsoft.playwright.options.*;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.*;
 
 /**
@@ -140,5 +143,19 @@ public interface Response {
    * @since v1.8
    */
   String url();
+  /**
+   * Returns the response body as a read-only buffer. Unlike {@link com.microsoft.playwright.Response#body Response.body()}
+   * the buffer shares the cached body instead of copying it.
+   */
+  default ByteBuffer bodyBuffer() {
+    return ByteBuffer.wrap(body()).asReadOnlyBuffer();
+  }
+  /**
+   * Returns the response body as a stream. The body is decoded as it is read, so large bodies are not held in memory
+   * twice.
+   */
+  default InputStream bodyStream() {
+    return new ByteArrayInputStream(body());
+  }
 }
 
@@ -241,5 +241,27 @@ public interface WebSocketRoute {
    * @since v1.48
    */
   String url();
+  /**
+   * Sends text messages to the WebSocket in order, like calling {@link com.microsoft.playwright.WebSocketRoute#send
+   * WebSocketRoute.send()} for each of them, without waiting for the messages to be delivered.
+   *
+   * @param messages Messages to send.
+   */
+  default void sendAll(List<String> messages) {
+    for (String message : messages) {
+      send(message);
+    }
+  }
+  /**
+   * Sends binary messages to the WebSocket in order, like calling {@link com.microsoft.playwright.WebSocketRoute#send
+   * WebSocketRoute.send()} for each of them, without waiting for the messages to be delivered.
+   *
+   * @param messages Messages to send.
+   */
+  default void sendAllBinary(List<byte[]> messages) {
+    for (byte[] message : messages) {
+      send(message);
+    }
+  }
 }
 
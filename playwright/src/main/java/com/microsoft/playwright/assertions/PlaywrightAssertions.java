@@ -23,6 +23,8 @@ import com.microsoft.playwright.impl.APIResponseAssertionsImpl;
 import com.microsoft.playwright.impl.AssertionsTimeout;
 import com.microsoft.playwright.impl.LocatorAssertionsImpl;
 import com.microsoft.playwright.impl.PageAssertionsImpl;
+import com.microsoft.playwright.impl.ScreenshotAssertionsImpl;
+import com.microsoft.playwright.impl.SoftAssertionsImpl;
 
 /**
  * Playwright gives you Web-First Assertions with convenience methods for creating assertions that will wait and retry
@@ -110,5 +112,54 @@ public interface PlaywrightAssertions {
     AssertionsTimeout.setDefaultTimeout(timeout);
   }
 
-}
+  /**
+   * Runs a group of assertions without stopping at the first failure. Page and locator assertions inside the block are sent
+   * to the browser at once and retried concurrently, then all failures are reported together when the block completes.
+   *
+   * <p> Any other call to the browser inside the block, for example a click, first waits for the assertions made before it,
+   * so that it can't change their outcome. Keep actions out of the block to have all assertions retried concurrently. Errors
+   * other than assertion failures are collected as well.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * PlaywrightAssertions.assertSoftly(() -> {
+   *   assertThat(page.getByLabel("Name")).hasValue("John");
+   *   assertThat(page.getByLabel("Email")).hasValue("john@example.com");
+   * });
+   * }</pre>
+   *
+   * @param assertions Code that makes the assertions.
+   */
+  static void assertSoftly(Runnable assertions) {
+    SoftAssertionsImpl.assertSoftly(assertions);
+  }
 
+  /**
+   * Creates a {@code ScreenshotAssertions} object that compares screenshots of the given {@code Page} with baseline images.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * PlaywrightAssertions.assertScreenshot(page).matches(Paths.get("screenshots/landing.png"));
+   * }</pre>
+   *
+   * @param page {@code Page} object to use for assertions.
+   */
+  static ScreenshotAssertions assertScreenshot(Page page) {
+    return new ScreenshotAssertionsImpl(page);
+  }
+
+  /**
+   * Creates a {@code ScreenshotAssertions} object that compares screenshots of the given {@code Locator} with baseline images.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * PlaywrightAssertions.assertScreenshot(page.locator("#chart")).matches(Paths.get("screenshots/chart.png"));
+   * }</pre>
+   *
+   * @param locator {@code Locator} object to use for assertions.
+   */
+  static ScreenshotAssertions assertScreenshot(Locator locator) {
+    return new ScreenshotAssertionsImpl(locator);
+  }
+
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.assertions;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.options.*;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * The {@code ScreenshotAssertions} class provides assertion methods that compare screenshots of a page or a locator with
+ * baseline images stored on disk.
+ *
+ * <p> Screenshots are taken and compared by the browser driver: it keeps taking screenshots until two consecutive ones are
+ * identical and then compares the stable screenshot with the baseline, so image decoding and pixel comparison never
+ * happen in the Java process.
+ */
+public interface ScreenshotAssertions {
+  class MatchesOptions {
+    /**
+     * When set to {@code "disabled"}, stops CSS animations, CSS transitions and Web Animations. Defaults to {@code "disabled"}
+     * so that running animations don't make the screenshot unstable.
+     */
+    public ScreenshotAnimations animations;
+    /**
+     * When set to {@code "hide"}, screenshot will hide text caret. When set to {@code "initial"}, text caret behavior will not
+     * be changed.  Defaults to {@code "hide"}.
+     */
+    public ScreenshotCaret caret;
+    /**
+     * When true, takes a screenshot of the full scrollable page instead of the currently visible viewport. Ignored for
+     * locator screenshots. Defaults to {@code false}.
+     */
+    public Boolean fullPage;
+    /**
+     * Specify locators that should be masked when the screenshot is taken. Masked elements will be overlaid with a pink box
+     * {@code #FF00FF} (customized by {@code maskColor}) that completely covers its bounding box.
+     */
+    public List<Locator> mask;
+    /**
+     * Specify the color of the overlay box for masked elements, in <a
+     * href="https://developer.mozilla.org/en-US/docs/Web/CSS/color_value">CSS color format</a>. Default color is pink {@code
+     * #FF00FF}.
+     */
+    public String maskColor;
+    /**
+     * An acceptable ratio of pixels that are different to the total amount of pixels, between {@code 0} and {@code 1}. Default
+     * is {@code 0}.
+     */
+    public Double maxDiffPixelRatio;
+    /**
+     * An acceptable amount of pixels that could be different. Default is {@code 0}.
+     */
+    public Integer maxDiffPixels;
+    /**
+     * Hides default white background and allows capturing screenshots with transparency. Defaults to {@code false}.
+     */
+    public Boolean omitBackground;
+    /**
+     * When set to {@code "css"}, screenshot will have a single pixel per each css pixel on the page. Using {@code "device"}
+     * option will produce a single pixel per each device pixel. Defaults to {@code "css"} so that baselines don't depend on the
+     * device scale factor.
+     */
+    public ScreenshotScale scale;
+    /**
+     * Text of the stylesheet to apply while making the screenshot. This is where you can hide dynamic elements, make elements
+     * invisible or change their properties to help you creating repeatable screenshots.
+     */
+    public String style;
+    /**
+     * An acceptable perceived color difference in the <a href="https://en.wikipedia.org/wiki/YIQ">YIQ color space</a> between
+     * the same pixel in compared images, between zero (strict) and one (lax). Defaults to {@code 0.2}.
+     */
+    public Double threshold;
+    /**
+     * Time to retry the assertion for in milliseconds. Defaults to {@code 5000}.
+     */
+    public Double timeout;
+
+    /**
+     * When set to {@code "disabled"}, stops CSS animations, CSS transitions and Web Animations. Defaults to {@code "disabled"}
+     * so that running animations don't make the screenshot unstable.
+     */
+    public MatchesOptions setAnimations(ScreenshotAnimations animations) {
+      this.animations = animations;
+      return this;
+    }
+    /**
+     * When set to {@code "hide"}, screenshot will hide text caret. When set to {@code "initial"}, text caret behavior will not
+     * be changed.  Defaults to {@code "hide"}.
+     */
+    public MatchesOptions setCaret(ScreenshotCaret caret) {
+      this.caret = caret;
+      return this;
+    }
+    /**
+     * When true, takes a screenshot of the full scrollable page instead of the currently visible viewport. Ignored for
+     * locator screenshots. Defaults to {@code false}.
+     */
+    public MatchesOptions setFullPage(boolean fullPage) {
+      this.fullPage = fullPage;
+      return this;
+    }
+    /**
+     * Specify locators that should be masked when the screenshot is taken. Masked elements will be overlaid with a pink box
+     * {@code #FF00FF} (customized by {@code maskColor}) that completely covers its bounding box.
+     */
+    public MatchesOptions setMask(List<Locator> mask) {
+      this.mask = mask;
+      return this;
+    }
+    /**
+     * Specify the color of the overlay box for masked elements, in <a
+     * href="https://developer.mozilla.org/en-US/docs/Web/CSS/color_value">CSS color format</a>. Default color is pink {@code
+     * #FF00FF}.
+     */
+    public MatchesOptions setMaskColor(String maskColor) {
+      this.maskColor = maskColor;
+      return this;
+    }
+    /**
+     * An acceptable ratio of pixels that are different to the total amount of pixels, between {@code 0} and {@code 1}. Default
+     * is {@code 0}.
+     */
+    public MatchesOptions setMaxDiffPixelRatio(double maxDiffPixelRatio) {
+      this.maxDiffPixelRatio = maxDiffPixelRatio;
+      return this;
+    }
+    /**
+     * An acceptable amount of pixels that could be different. Default is {@code 0}.
+     */
+    public MatchesOptions setMaxDiffPixels(int maxDiffPixels) {
+      this.maxDiffPixels = maxDiffPixels;
+      return this;
+    }
+    /**
+     * Hides default white background and allows capturing screenshots with transparency. Defaults to {@code false}.
+     */
+    public MatchesOptions setOmitBackground(boolean omitBackground) {
+      this.omitBackground = omitBackground;
+      return this;
+    }
+    /**
+     * When set to {@code "css"}, screenshot will have a single pixel per each css pixel on the page. Using {@code "device"}
+     * option will produce a single pixel per each device pixel. Defaults to {@code "css"} so that baselines don't depend on the
+     * device scale factor.
+     */
+    public MatchesOptions setScale(ScreenshotScale scale) {
+      this.scale = scale;
+      return this;
+    }
+    /**
+     * Text of the stylesheet to apply while making the screenshot. This is where you can hide dynamic elements, make elements
+     * invisible or change their properties to help you creating repeatable screenshots.
+     */
+    public MatchesOptions setStyle(String style) {
+      this.style = style;
+      return this;
+    }
+    /**
+     * An acceptable perceived color difference in the <a href="https://en.wikipedia.org/wiki/YIQ">YIQ color space</a> between
+     * the same pixel in compared images, between zero (strict) and one (lax). Defaults to {@code 0.2}.
+     */
+    public MatchesOptions setThreshold(double threshold) {
+      this.threshold = threshold;
+      return this;
+    }
+    /**
+     * Time to retry the assertion for in milliseconds. Defaults to {@code 5000}.
+     */
+    public MatchesOptions setTimeout(double timeout) {
+      this.timeout = timeout;
+      return this;
+    }
+  }
+  /**
+   * Ensures that the screenshot matches the baseline image at {@code baseline}.
+   *
+   * <p> If the baseline doesn't exist yet, the stable screenshot is written to {@code baseline} and the assertion fails. When
+   * the screenshot doesn't match, the actual and the diff images are written next to the baseline with {@code -actual} and
+   * {@code -diff} suffixes.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * assertScreenshot(page).matches(Paths.get("screenshots/landing.png"));
+   * }</pre>
+   *
+   * @param baseline Path to the baseline PNG image.
+   */
+  default void matches(Path baseline) {
+    matches(baseline, null);
+  }
+  /**
+   * Ensures that the screenshot matches the baseline image at {@code baseline}.
+   *
+   * <p> If the baseline doesn't exist yet, the stable screenshot is written to {@code baseline} and the assertion fails. When
+   * the screenshot doesn't match, the actual and the diff images are written next to the baseline with {@code -actual} and
+   * {@code -diff} suffixes.
+   *
+   * <p> <strong>Usage</strong>
+   * <pre>{@code
+   * assertScreenshot(page).matches(Paths.get("screenshots/landing.png"));
+   * }</pre>
+   *
+   * @param baseline Path to the baseline PNG image.
+   */
+  void matches(Path baseline, MatchesOptions options);
+}
+
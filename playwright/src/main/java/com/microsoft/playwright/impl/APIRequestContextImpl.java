@@ -21,23 +21,34 @@ import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.Request;
+import com.microsoft.playwright.options.FetchRequest;
 import com.microsoft.playwright.options.FilePayload;
 import com.microsoft.playwright.options.RequestOptions;
+import com.microsoft.playwright.options.ResponseRetention;
+import com.microsoft.playwright.options.RetainedResponses;
 
 import java.io.File;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 import static com.microsoft.playwright.impl.Serialization.*;
-import static com.microsoft.playwright.impl.Utils.toFilePayload;
 
 class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
   private final TracingImpl tracing;
   private String disposeReason;
+  private ResponseRetention responseRetention;
+  // Sizes of the read response bodies by fetchUid, least recently used first. Only populated while a
+  // retention policy is set, a body's size is 0 until it has been read.
+  private final Map<String, Long> retainedResponses = new LinkedHashMap<>(16, 0.75f, true);
+  private long retainedBytes;
+  private long autoDisposedResponses;
 
   protected TimeoutSettings timeoutSettings = new TimeoutSettings();
 
@@ -64,6 +75,100 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
     disposeReason = options.reason;
     JsonObject params = gson().toJsonTree(options).getAsJsonObject();
     sendMessage("dispose", params, NO_TIMEOUT);
+    retainedResponses.clear();
+    retainedBytes = 0;
+  }
+
+  @Override
+  public void setResponseRetention(ResponseRetention retention) {
+    if (retention != null) {
+      if (retention.maxResponses != null && retention.maxResponses < 1) {
+        throw new PlaywrightException("'maxResponses' must be greater than '0'");
+      }
+      if (retention.maxBytes != null && retention.maxBytes < 0) {
+        throw new PlaywrightException("'maxBytes' must be greater than or equal to '0'");
+      }
+    }
+    responseRetention = retention;
+    if (retention == null) {
+      // Nothing is tracked without a policy.
+      retainedResponses.clear();
+      retainedBytes = 0;
+      return;
+    }
+    enforceResponseRetention(null);
+  }
+
+  @Override
+  public RetainedResponses retainedResponses() {
+    return new RetainedResponses(retainedResponses.size(), retainedBytes, autoDisposedResponses);
+  }
+
+  void disposeResponse(String fetchUid) {
+    Long size = retainedResponses.remove(fetchUid);
+    if (size != null) {
+      retainedBytes -= size;
+    }
+    JsonObject params = new JsonObject();
+    params.addProperty("fetchUid", fetchUid);
+    sendMessage("disposeAPIResponse", params, NO_TIMEOUT);
+  }
+
+  void didReadResponseBody(String fetchUid, long size) {
+    Long previousSize = retainedResponses.get(fetchUid);
+    if (previousSize == null) {
+      return;
+    }
+    if (responseRetention != null && Boolean.TRUE.equals(responseRetention.disposeOnRead)) {
+      disposeResponse(fetchUid);
+      ++autoDisposedResponses;
+      return;
+    }
+    retainedResponses.put(fetchUid, size);
+    retainedBytes += size - previousSize;
+    enforceResponseRetention(fetchUid);
+  }
+
+  private void didCreateResponse(String fetchUid, Long announcedSize) {
+    if (responseRetention == null) {
+      return;
+    }
+    // Until the body is read, its size is what the server has announced.
+    long size = announcedSize == null ? 0 : announcedSize;
+    retainedResponses.put(fetchUid, size);
+    retainedBytes += size;
+    enforceResponseRetention(fetchUid);
+  }
+
+  // Disposes the least recently used responses until the limits are met, the response that was just used is kept.
+  private void enforceResponseRetention(String keepFetchUid) {
+    if (responseRetention == null) {
+      return;
+    }
+    Iterator<Map.Entry<String, Long>> it = retainedResponses.entrySet().iterator();
+    List<String> evicted = new ArrayList<>();
+    int count = retainedResponses.size();
+    long bytes = retainedBytes;
+    while (it.hasNext() && isOverRetentionLimit(count, bytes)) {
+      Map.Entry<String, Long> e = it.next();
+      if (e.getKey().equals(keepFetchUid)) {
+        continue;
+      }
+      evicted.add(e.getKey());
+      count--;
+      bytes -= e.getValue();
+    }
+    for (String fetchUid : evicted) {
+      disposeResponse(fetchUid);
+      ++autoDisposedResponses;
+    }
+  }
+
+  private boolean isOverRetentionLimit(int count, long bytes) {
+    if (responseRetention.maxResponses != null && count > responseRetention.maxResponses) {
+      return true;
+    }
+    return responseRetention.maxBytes != null && bytes > responseRetention.maxBytes;
   }
 
   @Override
@@ -89,13 +194,147 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
     return fetch(request.url(), options);
   }
 
-  private APIResponse fetchImpl(String url, RequestOptionsImpl options) {
-    if (disposeReason != null) {
-      throw new PlaywrightException(disposeReason);
+  @Override
+  public List<APIResponse> fetchAll(List<FetchRequest> requests, int maxConcurrency) {
+    if (maxConcurrency < 1) {
+      throw new PlaywrightException("'maxConcurrency' must be greater than '0'");
+    }
+    List<RequestOptionsImpl> options = new ArrayList<>();
+    for (FetchRequest request : requests) {
+      RequestOptionsImpl requestOptions = request.options == null ? new RequestOptionsImpl() : (RequestOptionsImpl) request.options;
+      // Reject invalid options before anything is sent.
+      validateFetchOptions(requestOptions);
+      options.add(requestOptions);
     }
+    List<WaitableResult<JsonElement>> results = new ArrayList<>();
+    List<WaitableResult<JsonElement>> inFlight = new ArrayList<>();
+    try {
+      // All fetches are sent over the same connection without waiting for the replies, the driver runs them concurrently.
+      for (int i = 0; i < requests.size(); i++) {
+        if (inFlight.size() >= maxConcurrency) {
+          waitForAny(inFlight);
+        }
+        JsonObject params = fetchParams(requests.get(i).url, options.get(i));
+        params.addProperty("timeout", options.get(i).timeout);
+        WaitableResult<JsonElement> result = sendMessageAsync("fetch", params);
+        results.add(result);
+        inFlight.add(result);
+      }
+      while (!inFlight.isEmpty()) {
+        waitForAny(inFlight);
+      }
+    } catch (RuntimeException e) {
+      disposeFetchResults(results, inFlight, e);
+      throw e;
+    }
+    List<APIResponse> responses = new ArrayList<>();
+    PlaywrightException error = null;
+    for (int i = 0; i < results.size(); i++) {
+      try {
+        responses.add(toResponse(results.get(i).get(), options.get(i)));
+      } catch (PlaywrightException e) {
+        if (error == null) {
+          error = e;
+        } else {
+          error.addSuppressed(e);
+        }
+      }
+    }
+    if (error != null) {
+      for (APIResponse response : responses) {
+        response.dispose();
+      }
+      throw error;
+    }
+    return responses;
+  }
+
+  // Waits for the requests that were already sent and disposes their responses, so that the driver doesn't keep the bodies.
+  private void disposeFetchResults(List<WaitableResult<JsonElement>> results, List<WaitableResult<JsonElement>> inFlight, RuntimeException error) {
+    try {
+      while (!inFlight.isEmpty()) {
+        waitForAny(inFlight);
+      }
+    } catch (RuntimeException e) {
+      // The connection is gone, so are the responses.
+      error.addSuppressed(e);
+      return;
+    }
+    for (WaitableResult<JsonElement> result : results) {
+      String fetchUid;
+      try {
+        fetchUid = result.get().getAsJsonObject().getAsJsonObject("response").get("fetchUid").getAsString();
+      } catch (PlaywrightException e) {
+        continue;
+      }
+      try {
+        disposeResponse(fetchUid);
+      } catch (PlaywrightException e) {
+        error.addSuppressed(e);
+      }
+    }
+  }
+
+  private void waitForAny(List<WaitableResult<JsonElement>> inFlight) {
+    runUntil(() -> {}, new Waitable<Void>() {
+      @Override
+      public boolean isDone() {
+        return inFlight.removeIf(WaitableResult::isDone);
+      }
+
+      @Override
+      public Void get() {
+        return null;
+      }
+
+      @Override
+      public void dispose() {
+      }
+    });
+  }
+
+  private APIResponse fetchImpl(String url, RequestOptionsImpl options) {
     if (options == null) {
       options = new RequestOptionsImpl();
     }
+    JsonObject params = fetchParams(url, options);
+    JsonElement result = sendMessage("fetch", params, options.timeout);
+    return toResponse(result, options);
+  }
+
+  private APIResponseImpl toResponse(JsonElement result, RequestOptionsImpl options) {
+    APIResponseImpl response = new APIResponseImpl(this, result.getAsJsonObject().getAsJsonObject("response"), options.maxBodySize);
+    // The driver always buffers the whole body, fail early if the server has announced a larger one.
+    // The announced length is only a hint, the decoded body is checked again when it is read.
+    Long contentLength = announcedBodySize(response, options);
+    if (contentLength != null) {
+      response.checkBodySize(contentLength);
+    }
+    didCreateResponse(response.fetchUid(), contentLength);
+    return response;
+  }
+
+  // Returns null when the header doesn't describe the size of the decoded body.
+  private static Long announcedBodySize(APIResponseImpl response, RequestOptionsImpl options) {
+    if ("HEAD".equalsIgnoreCase(options.method) || response.headers.get("content-encoding") != null) {
+      return null;
+    }
+    String value = response.headers.get("content-length");
+    if (value == null) {
+      return null;
+    }
+    try {
+      long size = Long.parseLong(value.trim());
+      return size < 0 ? null : size;
+    } catch (NumberFormatException e) {
+      // Malformed or repeated header, e.g. "10, 10".
+      return null;
+    }
+  }
+
+  private JsonObject fetchParams(String url, RequestOptionsImpl options) {
+    // Validate before any file placeholders are created so that they can't leak.
+    validateFetchOptions(options);
     options.timeout = timeoutSettings.timeout(options.timeout);
     JsonObject params = new JsonObject();
     params.addProperty("url", url);
@@ -113,6 +352,43 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
       params.add("headers", toProtocol(options.headers));
     }
 
+    try {
+      addBodyParams(params, options);
+    } catch (PlaywrightException e) {
+      LazyFileContent.releaseAll(gson().toJson(params));
+      throw e;
+    }
+    if (options.failOnStatusCode != null) {
+      params.addProperty("failOnStatusCode", options.failOnStatusCode);
+    }
+    if (options.ignoreHTTPSErrors != null) {
+      params.addProperty("ignoreHTTPSErrors", options.ignoreHTTPSErrors);
+    }
+    if (options.maxRedirects != null) {
+      params.addProperty("maxRedirects", options.maxRedirects);
+    }
+    if (options.maxRetries != null) {
+      params.addProperty("maxRetries", options.maxRetries);
+    }
+    return params;
+  }
+
+  private void validateFetchOptions(RequestOptionsImpl options) {
+    if (disposeReason != null) {
+      throw new PlaywrightException(disposeReason);
+    }
+    if (options.maxRedirects != null && options.maxRedirects < 0) {
+      throw new PlaywrightException("'maxRedirects' should be greater than or equal to '0'");
+    }
+    if (options.maxRetries != null && options.maxRetries < 0) {
+      throw new PlaywrightException("'maxRetries' must be greater than or equal to '0'");
+    }
+    if (options.maxBodySize != null && options.maxBodySize < 0) {
+      throw new PlaywrightException("'maxBodySize' must be greater than or equal to '0'");
+    }
+  }
+
+  private void addBodyParams(JsonObject params, RequestOptionsImpl options) {
     if (options.data != null) {
       byte[] bytes = null;
       if (options.data instanceof byte[]) {
@@ -123,7 +399,13 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
           bytes = (stringData).getBytes(StandardCharsets.UTF_8);
         }
       }
-      if (bytes == null) {
+      if (options.data instanceof Path) {
+        params.addProperty("postData", LazyFileContent.placeholder((Path) options.data));
+      } else if (options.data instanceof File) {
+        params.addProperty("postData", LazyFileContent.placeholder(((File) options.data).toPath()));
+      } else if (options.data instanceof InputStream) {
+        params.addProperty("postData", LazyFileContent.placeholder((InputStream) options.data));
+      } else if (bytes == null) {
         params.addProperty("jsonData", jsonDataSerializer.toJson(options.data));
       } else {
         String base64 = Base64.getEncoder().encodeToString(bytes);
@@ -136,26 +418,6 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
     if (options.multipart != null) {
       params.add("multipartData", serializeMultipartData(options.multipart.fields));
     }
-    if (options.failOnStatusCode != null) {
-      params.addProperty("failOnStatusCode", options.failOnStatusCode);
-    }
-    if (options.ignoreHTTPSErrors != null) {
-      params.addProperty("ignoreHTTPSErrors", options.ignoreHTTPSErrors);
-    }
-    if (options.maxRedirects != null) {
-      if (options.maxRedirects < 0) {
-        throw new PlaywrightException("'maxRedirects' should be greater than or equal to '0'");
-      }
-      params.addProperty("maxRedirects", options.maxRedirects);
-    }
-    if (options.maxRetries != null) {
-      if (options.maxRetries < 0) {
-        throw new PlaywrightException("'maxRetries' must be greater than or equal to '0'");
-      }
-      params.addProperty("maxRetries", options.maxRetries);
-    }
-    JsonObject json = sendMessage("fetch", params, timeoutSettings.timeout(options.timeout)).getAsJsonObject();
-    return new APIResponseImpl(this, json.getAsJsonObject("response"));
   }
 
   private static boolean isJsonContentType(Map<String, String> headers) {
@@ -173,20 +435,29 @@ class APIRequestContextImpl extends ChannelOwner implements APIRequestContext {
   private static JsonArray serializeMultipartData(List<? extends Map.Entry<String, Object>> data) {
     JsonArray result = new JsonArray();
     for (Map.Entry<String, ?> e : data) {
-      FilePayload filePayload = null;
-      if (e.getValue() instanceof FilePayload) {
-        filePayload = (FilePayload) e.getValue();
-      } else if (e.getValue() instanceof Path) {
-        filePayload = toFilePayload((Path) e.getValue());
+      Path path = null;
+      if (e.getValue() instanceof Path) {
+        path = (Path) e.getValue();
       } else if (e.getValue() instanceof File) {
-        filePayload = toFilePayload(((File) e.getValue()).toPath());
+        path = ((File) e.getValue()).toPath();
       }
       JsonObject item = new JsonObject();
       item.addProperty("name", e.getKey());
-      if (filePayload == null) {
-        item.addProperty("value", "" + e.getValue());
+      if (e.getValue() instanceof FilePayload) {
+        item.add("file", toProtocol((FilePayload) e.getValue()));
+      } else if (path != null) {
+        // File contents are streamed into the pipe rather than read into memory.
+        JsonObject file = new JsonObject();
+        file.addProperty("name", path.getFileName().toString());
+        try {
+          file.addProperty("buffer", LazyFileContent.placeholder(path));
+        } catch (PlaywrightException error) {
+          LazyFileContent.releaseAll(gson().toJson(result));
+          throw error;
+        }
+        item.add("file", file);
       } else {
-        item.add("file", toProtocol(filePayload));
+        item.addProperty("value", "" + e.getValue());
       }
       result.add(item);
     }
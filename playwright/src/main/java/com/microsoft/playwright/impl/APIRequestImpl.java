@@ -16,15 +16,10 @@
 
 package com.microsoft.playwright.impl;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.APIRequest;
-import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.options.ClientCertificate;
 
-import java.io.IOException;
-import java.nio.charset.StandardCharsets;
-import java.nio.file.Files;
 import java.util.List;
 
 import static com.microsoft.playwright.impl.ChannelOwner.NO_TIMEOUT;
@@ -45,20 +40,14 @@ class APIRequestImpl implements APIRequest {
     } else {
       options = Utils.clone(options);
     }
-    if (options.storageStatePath != null) {
-      try {
-        byte[] bytes = Files.readAllBytes(options.storageStatePath);
-        options.storageState = new String(bytes, StandardCharsets.UTF_8);
-        options.storageStatePath = null;
-      } catch (IOException e) {
-        throw new PlaywrightException("Failed to read storage state from file", e);
-      }
-    }
     JsonObject storageState = null;
-    if (options.storageState != null) {
-      storageState = new Gson().fromJson(options.storageState, JsonObject.class);
-      options.storageState = null;
+    if (options.storageStatePath != null) {
+      storageState = StorageStateCache.fromFile(options.storageStatePath);
+      options.storageStatePath = null;
+    } else if (options.storageState != null) {
+      storageState = StorageStateCache.fromString(options.storageState);
     }
+    options.storageState = null;
     List<ClientCertificate> clientCertificateList = options.clientCertificates;
     options.clientCertificates = null;
     Double timeout = options.timeout;
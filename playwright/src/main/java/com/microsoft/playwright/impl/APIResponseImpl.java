@@ -25,7 +25,12 @@ import com.microsoft.playwright.options.HttpHeader;
 import com.microsoft.playwright.options.SecurityDetails;
 import com.microsoft.playwright.options.ServerAddr;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
@@ -38,16 +43,44 @@ import static java.util.Arrays.asList;
 class APIResponseImpl implements APIResponse {
   final APIRequestContextImpl context;
   private final JsonObject initializer;
-  private final RawHeaders headers;
+  final RawHeaders headers;
+  private final Integer maxBodySize;
 
   APIResponseImpl(APIRequestContextImpl apiRequestContext, JsonObject response) {
+    this(apiRequestContext, response, null);
+  }
+
+  APIResponseImpl(APIRequestContextImpl apiRequestContext, JsonObject response, Integer maxBodySize) {
     context = apiRequestContext;
     initializer = response;
     headers = new RawHeaders(asList(gson().fromJson(initializer.getAsJsonArray("headers"), HttpHeader[].class)));
+    this.maxBodySize = maxBodySize;
   }
 
   @Override
   public byte[] body() {
+    return Base64.getDecoder().decode(fetchBase64Body());
+  }
+
+  @Override
+  public InputStream bodyStream() {
+    return Base64.getDecoder().wrap(new AsciiInputStream(fetchBase64Body()));
+  }
+
+  @Override
+  public void saveAs(Path path) {
+    try (InputStream stream = bodyStream()) {
+      Path dir = path.toAbsolutePath().getParent();
+      if (dir != null) {
+        Files.createDirectories(dir);
+      }
+      Files.copy(stream, path, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to save response body to " + path, e);
+    }
+  }
+
+  private String fetchBase64Body() {
     try {
       JsonObject params = new JsonObject();
       params.addProperty("fetchUid", fetchUid());
@@ -55,7 +88,16 @@ class APIResponseImpl implements APIResponse {
       if (!json.has("binary")) {
         throw new PlaywrightException("Response has been disposed");
       }
-      return Base64.getDecoder().decode(json.get("binary").getAsString());
+      String base64 = json.get("binary").getAsString();
+      long size = base64.length() / 4 * 3L;
+      if (base64.endsWith("==")) {
+        size -= 2;
+      } else if (base64.endsWith("=")) {
+        size -= 1;
+      }
+      checkBodySize(size);
+      context.didReadResponseBody(fetchUid(), size);
+      return base64;
     } catch (PlaywrightException e) {
       if (isSafeCloseError(e)) {
         throw new PlaywrightException("Response has been disposed");
@@ -64,11 +106,16 @@ class APIResponseImpl implements APIResponse {
     }
   }
 
+  void checkBodySize(long size) {
+    if (maxBodySize != null && size > maxBodySize) {
+      dispose();
+      throw new PlaywrightException("Response body of " + size + " bytes exceeds maxBodySize of " + maxBodySize + " bytes");
+    }
+  }
+
   @Override
   public void dispose() {
-    JsonObject params = new JsonObject();
-    params.addProperty("fetchUid", fetchUid());
-    context.sendMessage("disposeAPIResponse", params, NO_TIMEOUT);
+    context.disposeResponse(fetchUid());
   }
 
   @Override
@@ -134,5 +181,4 @@ class APIResponseImpl implements APIResponse {
     JsonArray log = json.get("log").getAsJsonArray();
     return gson().fromJson(log, new TypeToken<List<String>>() {}.getType());
   }
-
 }
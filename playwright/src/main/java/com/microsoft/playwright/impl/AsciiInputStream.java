@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import java.io.InputStream;
+
+/**
+ * Base64 text is ASCII, feeds its chars to the decoder without copying the string into a byte array.
+ */
+class AsciiInputStream extends InputStream {
+  private final String text;
+  private int position;
+
+  AsciiInputStream(String text) {
+    this.text = text;
+  }
+
+  @Override
+  public int read() {
+    return position < text.length() ? text.charAt(position++) : -1;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) {
+    if (len == 0) {
+      return 0;
+    }
+    if (position >= text.length()) {
+      return -1;
+    }
+    int count = Math.min(len, text.length() - position);
+    for (int i = 0; i < count; i++) {
+      b[off + i] = (byte) text.charAt(position++);
+    }
+    return count;
+  }
+}
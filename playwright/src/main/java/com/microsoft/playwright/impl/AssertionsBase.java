@@ -22,6 +22,7 @@ import org.opentest4j.ValueWrapper;
 import java.lang.reflect.Field;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -55,7 +56,15 @@ abstract class AssertionsBase {
     if (isNot) {
       message = message.replace("expected to", "expected not to");
     }
-    FrameExpectResult result = doExpect(expression, expectOptions, title);
+    Supplier<FrameExpectResult> result = doExpect(expression, expectOptions, title);
+    String failureMessage = message;
+    if (SoftAssertionsImpl.defer(() -> checkResult(result.get(), expected, failureMessage))) {
+      return;
+    }
+    checkResult(result.get(), expected, message);
+  }
+
+  private void checkResult(FrameExpectResult result, Object expected, String message) {
     if (result.matches == isNot) {
       Object actual;
       if (result.received == null) {
@@ -82,7 +91,7 @@ abstract class AssertionsBase {
     }
   }
 
-  abstract FrameExpectResult doExpect(String expression, FrameExpectOptions expectOptions, String title);
+  abstract Supplier<FrameExpectResult> doExpect(String expression, FrameExpectOptions expectOptions, String title);
 
   protected static ValueWrapper formatValue(Object value) {
     if (value == null || !value.getClass().isArray()) {
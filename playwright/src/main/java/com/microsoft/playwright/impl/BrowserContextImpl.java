@@ -56,6 +56,8 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
   final Map<String, BindingCallback> bindings = new HashMap<>();
   PageImpl ownerPage;
   private String closeReason;
+  // Storage state returned by the last storageStateDelta() call.
+  private JsonObject storageStateCheckpoint;
 
   private static final Map<EventType, String> eventSubscriptions() {
     Map<EventType, String> result = new HashMap<>();
@@ -649,6 +651,47 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     return storageState;
   }
 
+  @Override
+  public String storageStateDelta() {
+    JsonObject state = sendMessage("storageState", new JsonObject(), NO_TIMEOUT).getAsJsonObject();
+    JsonObject delta = StorageStateDelta.diff(storageStateCheckpoint == null ? new JsonObject() : storageStateCheckpoint, state);
+    storageStateCheckpoint = state;
+    return delta.toString();
+  }
+
+  @Override
+  public void applyStorageStateDelta(String delta) {
+    JsonObject json = gson().fromJson(delta, JsonObject.class);
+    if (StorageStateDelta.hasOriginChanges(json)) {
+      // Local storage can only be replaced together with the rest of the state.
+      JsonObject stateParams = new JsonObject();
+      stateParams.addProperty("indexedDB", true);
+      JsonObject state = sendMessage("storageState", stateParams, NO_TIMEOUT).getAsJsonObject();
+      JsonObject params = new JsonObject();
+      params.addProperty("storageState", StorageStateDelta.apply(state, json).toString());
+      sendMessage("setStorageState", params, NO_TIMEOUT);
+      return;
+    }
+    for (JsonElement e : StorageStateDelta.array(json, "removedCookies")) {
+      JsonObject cookie = e.getAsJsonObject();
+      clearCookies(new ClearCookiesOptions()
+        .setName(cookie.get("name").getAsString())
+        .setDomain(cookie.get("domain").getAsString())
+        .setPath(cookie.get("path").getAsString()));
+    }
+    JsonArray cookies = StorageStateDelta.array(json, "cookies");
+    if (cookies.size() > 0) {
+      JsonObject params = new JsonObject();
+      params.add("cookies", cookies);
+      sendMessage("addCookies", params, NO_TIMEOUT);
+    }
+  }
+
+  @Override
+  public NetworkCapture captureNetwork(Path path) {
+    return new NetworkCaptureImpl(this, path);
+  }
+
   @Override
   public DebuggerImpl debugger() {
     return debugger;
@@ -745,6 +788,14 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
     return sendMessageAsync("pause", new JsonObject());
   }
 
+  private PageImpl networkEventPage(JsonObject params) {
+    JsonObject page = params.getAsJsonObject("page");
+    if (page == null) {
+      return null;
+    }
+    return connection.getExistingObject(page.get("guid").getAsString());
+  }
+
   @Override
   protected void handleEvent(String event, JsonObject params) {
     if ("dialog".equals(event)) {
@@ -817,8 +868,8 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
       String guid = params.getAsJsonObject("request").get("guid").getAsString();
       RequestImpl request = connection.getExistingObject(guid);
       listeners.notify(EventType.REQUEST, request);
-      if (params.has("page")) {
-        PageImpl page = connection.getExistingObject(params.getAsJsonObject("page").get("guid").getAsString());
+      PageImpl page = networkEventPage(params);
+      if (page != null) {
         page.listeners.notify(PageImpl.EventType.REQUEST, request);
       }
     } else if ("requestFailed".equals(event)) {
@@ -832,8 +883,8 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
         request.timing.responseEnd = params.get("responseEndTiming").getAsDouble();
       }
       listeners.notify(EventType.REQUESTFAILED, request);
-      if (params.has("page")) {
-        PageImpl page = connection.getExistingObject(params.getAsJsonObject("page").get("guid").getAsString());
+      PageImpl page = networkEventPage(params);
+      if (page != null) {
         page.listeners.notify(PageImpl.EventType.REQUESTFAILED, request);
       }
     } else if ("requestFinished".equals(event)) {
@@ -844,16 +895,16 @@ class BrowserContextImpl extends ChannelOwner implements BrowserContext {
         request.timing.responseEnd = params.get("responseEndTiming").getAsDouble();
       }
       listeners.notify(EventType.REQUESTFINISHED, request);
-      if (params.has("page")) {
-        PageImpl page = connection.getExistingObject(params.getAsJsonObject("page").get("guid").getAsString());
+      PageImpl page = networkEventPage(params);
+      if (page != null) {
         page.listeners.notify(PageImpl.EventType.REQUESTFINISHED, request);
       }
     } else if ("response".equals(event)) {
       String guid = params.getAsJsonObject("response").get("guid").getAsString();
       ResponseImpl response = connection.getExistingObject(guid);
       listeners.notify(EventType.RESPONSE, response);
-      if (params.has("page")) {
-        PageImpl page = connection.getExistingObject(params.getAsJsonObject("page").get("guid").getAsString());
+      PageImpl page = networkEventPage(params);
+      if (page != null) {
         page.listeners.notify(PageImpl.EventType.RESPONSE, response);
       }
     } else if ("pageError".equals(event)) {
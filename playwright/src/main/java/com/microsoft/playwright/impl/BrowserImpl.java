@@ -16,14 +16,12 @@
 
 package com.microsoft.playwright.impl;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.BindResult;
 
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
@@ -41,6 +39,7 @@ class BrowserImpl extends ChannelOwner implements Browser {
   BrowserType.LaunchOptions launchOptions;
   private Path tracePath;
   String closeReason;
+  private BrowserContextImpl contextForReuse;
 
   enum EventType {
     CONTEXT,
@@ -122,6 +121,27 @@ class BrowserImpl extends ChannelOwner implements Browser {
 
   @Override
   public BrowserContextImpl newContext(NewContextOptions options) {
+    return newContextImpl("newContext", options);
+  }
+
+  /**
+   * Returns a context with the given options, reusing the context returned by the previous call if the options
+   * match. The driver resets the reused context (pages, storage, routes, permissions) instead of creating a new one.
+   * Used by the JUnit extensions through {@link Utils#newContextForReuse}.
+   */
+  BrowserContext newContextForReuse(NewContextOptions options) {
+    if (contextForReuse != null && !contextForReuse.isClosed()) {
+      // The driver disposes the old context object and sends a fresh one, emulate closing on the client side.
+      for (PageImpl page : new ArrayList<>(contextForReuse.pages)) {
+        page.didClose();
+      }
+      contextForReuse.didClose();
+    }
+    contextForReuse = newContextImpl("newContextForReuse", options);
+    return contextForReuse;
+  }
+
+  private BrowserContextImpl newContextImpl(String method, NewContextOptions options) {
     if (options == null) {
       options = new NewContextOptions();
     } else {
@@ -136,20 +156,14 @@ class BrowserImpl extends ChannelOwner implements Browser {
     options.recordHarOmitContent = null;
     options.recordHarUrlFilter = null;
 
-    if (options.storageStatePath != null) {
-      try {
-        byte[] bytes = Files.readAllBytes(options.storageStatePath);
-        options.storageState = new String(bytes, StandardCharsets.UTF_8);
-        options.storageStatePath = null;
-      } catch (IOException e) {
-        throw new PlaywrightException("Failed to read storage state from file", e);
-      }
-    }
     JsonObject storageState = null;
-    if (options.storageState != null) {
-      storageState = new Gson().fromJson(options.storageState, JsonObject.class);
-      options.storageState = null;
+    if (options.storageStatePath != null) {
+      storageState = StorageStateCache.fromFile(options.storageStatePath);
+      options.storageStatePath = null;
+    } else if (options.storageState != null) {
+      storageState = StorageStateCache.fromString(options.storageState);
     }
+    options.storageState = null;
     JsonObject params = gson().toJsonTree(options).getAsJsonObject();
     if (storageState != null) {
       params.add("storageState", storageState);
@@ -183,7 +197,7 @@ class BrowserImpl extends ChannelOwner implements Browser {
     }
     params.add("selectorEngines", gson().toJsonTree(browserType.playwright.selectors.selectorEngines));
     params.addProperty("testIdAttributeName", browserType.playwright.selectors.testIdAttributeName);
-    JsonElement result = sendMessage("newContext", params, NO_TIMEOUT);
+    JsonElement result = sendMessage(method, params, NO_TIMEOUT);
     BrowserContextImpl context = connection.getExistingObject(result.getAsJsonObject().getAsJsonObject("context").get("guid").getAsString());
     context.initializeHarFromOptions(harOptions);
     return context;
@@ -26,6 +26,8 @@ import com.microsoft.playwright.PlaywrightException;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import static com.microsoft.playwright.impl.Serialization.gson;
@@ -81,26 +83,43 @@ class BrowserTypeImpl extends ChannelOwner implements BrowserType {
       timeout = 0.0;
     }
 
+    // slowMo is implemented by the local driver, such connections always go through it.
+    if (WebSocketTransport.isEnabled() && options.slowMo == null) {
+      return connectDirectly(wsEndpoint, headers, options.exposeNetwork, timeout);
+    }
     JsonObject json = connection.localUtils().sendMessage("connect", params, timeout).getAsJsonObject();
     JsonPipe pipe = connection.getExistingObject(json.getAsJsonObject("pipe").get("guid").getAsString());
     Connection connection = new Connection(pipe, this.connection.env, this.connection.localUtils);
-    PlaywrightImpl playwright = connection.initializePlaywright();
-    if (!playwright.initializer.has("preLaunchedBrowser")) {
+    BrowserImpl browser = initializeRemoteBrowser(connection);
+    Consumer<JsonPipe> connectionCloseListener = t -> browser.notifyRemoteClosed();
+    pipe.onClose(connectionCloseListener);
+    browser.onDisconnected(b -> {
+      pipe.offClose(connectionCloseListener);
       try {
         connection.close();
       } catch (IOException e) {
         e.printStackTrace(System.err);
       }
-      throw new PlaywrightException("Malformed endpoint. Did you use launchServer method?");
+    });
+    return browser;
+  }
+
+  // Same as connect() but without relaying each message through the local driver, see WebSocketTransport.
+  private Browser connectDirectly(String wsEndpoint, JsonObject headers, String exposeNetwork, double timeout) {
+    Map<String, String> wsHeaders = new LinkedHashMap<>();
+    if (exposeNetwork != null) {
+      wsHeaders.put("x-playwright-proxy", exposeNetwork);
     }
-    playwright.selectors = this.playwright.selectors;
-    BrowserImpl browser = connection.getExistingObject(playwright.initializer.getAsJsonObject("preLaunchedBrowser").get("guid").getAsString());
-    browser.isConnectedOverWebSocket = true;
-    browser.connectToBrowserType(this, null);
-    Consumer<JsonPipe> connectionCloseListener = t -> browser.notifyRemoteClosed();
-    pipe.onClose(connectionCloseListener);
+    for (String name : headers.keySet()) {
+      wsHeaders.put(name, headers.get(name).getAsString());
+    }
+    WebSocketTransport transport = WebSocketTransport.connect(wsEndpoint, wsHeaders, timeout);
+    Connection connection = new Connection(transport, this.connection.env, this.connection.localUtils);
+    BrowserImpl browser = initializeRemoteBrowser(connection);
+    Runnable connectionCloseListener = browser::notifyRemoteClosed;
+    transport.onClose(connectionCloseListener);
     browser.onDisconnected(b -> {
-      pipe.offClose(connectionCloseListener);
+      transport.offClose(connectionCloseListener);
       try {
         connection.close();
       } catch (IOException e) {
@@ -110,6 +129,23 @@ class BrowserTypeImpl extends ChannelOwner implements BrowserType {
     return browser;
   }
 
+  private BrowserImpl initializeRemoteBrowser(Connection connection) {
+    PlaywrightImpl playwright = connection.initializePlaywright();
+    if (!playwright.initializer.has("preLaunchedBrowser")) {
+      try {
+        connection.close();
+      } catch (IOException e) {
+        e.printStackTrace(System.err);
+      }
+      throw new PlaywrightException("Malformed endpoint. Did you use launchServer method?");
+    }
+    playwright.selectors = this.playwright.selectors;
+    BrowserImpl browser = connection.getExistingObject(playwright.initializer.getAsJsonObject("preLaunchedBrowser").get("guid").getAsString());
+    browser.isConnectedOverWebSocket = true;
+    browser.connectToBrowserType(this, null);
+    return browser;
+  }
+
   @Override
   public Browser connectOverCDP(String endpointURL, ConnectOverCDPOptions options) {
     if (!"chromium".equals(name()) && !"webkit".equals(name())) {
@@ -20,12 +20,17 @@ import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.CDPSession;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Consumer;
 
 public class CDPSessionImpl extends ChannelOwner implements CDPSession {
   private final ListenerCollection<String> listeners = new ListenerCollection<>(new HashMap<>(), this);
   private final ListenerCollection<EventType> typedListeners = new ListenerCollection<>(new HashMap<>(), this);
+  // CDP events that have listeners, the others are discarded by the transport.
+  private final Set<String> listenedEvents = new HashSet<>();
 
   enum EventType {
     CLOSE,
@@ -33,6 +38,7 @@ public class CDPSessionImpl extends ChannelOwner implements CDPSession {
 
   protected CDPSessionImpl(ChannelOwner parent, String type, String guid, JsonObject initializer) {
     super(parent, type, guid, initializer);
+    updateEventFilter();
   }
 
   @Override
@@ -79,11 +85,29 @@ public class CDPSessionImpl extends ChannelOwner implements CDPSession {
   @Override
   public void on(String event, Consumer<JsonObject> handler) {
     listeners.add(event, handler);
+    if (listenedEvents.add(event)) {
+      updateEventFilter();
+    }
   }
 
   @Override
   public void off(String event, Consumer<JsonObject> handler) {
     listeners.remove(event, handler);
+    if (!listeners.hasListeners(event) && listenedEvents.remove(event)) {
+      updateEventFilter();
+    }
+  }
+
+  private void updateEventFilter() {
+    // "event" listeners receive every CDP event.
+    Set<String> methods = listenedEvents.contains("event") ? null : Collections.unmodifiableSet(new HashSet<>(listenedEvents));
+    connection.setCDPEventFilter(guid, methods);
+  }
+
+  @Override
+  void disposeChannelOwner(boolean wasGarbageCollected) {
+    super.disposeChannelOwner(wasGarbageCollected);
+    connection.setCDPEventFilter(guid, null);
   }
 
   @Override
@@ -110,6 +110,11 @@ class ChannelOwner extends LoggingSupport {
     return connection.sendMessageAsync(guid, method, params);
   }
 
+  WaitableResult<JsonElement> sendInternalMessageAsync(String method, JsonObject params) {
+    checkNotCollected();
+    return connection.sendInternalMessageAsync(guid, method, params);
+  }
+
   // Fire-and-forget: silently drop if the object was collected.
   void sendMessageNoReply(String method, JsonObject params) {
     if (wasCollected) {
@@ -124,6 +129,7 @@ class ChannelOwner extends LoggingSupport {
 
   JsonElement sendMessage(String method, JsonObject params, Double timeout) {
     checkNotCollected();
+    SoftAssertionsImpl.settlePendingChecks();
     if (timeout != null) {
       params.addProperty("timeout", timeout);
     } else if (params.has("timeout")) {
@@ -141,7 +147,7 @@ class ChannelOwner extends LoggingSupport {
     try {
       code.run();
       while (!waitable.isDone()) {
-        connection.processOneMessage();
+        connection.processOneMessage(waitable.nanosUntilDeadline());
       }
       return waitable.get();
     } finally {
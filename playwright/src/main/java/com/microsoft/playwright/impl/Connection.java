@@ -15,7 +15,6 @@
  */
 package com.microsoft.playwright.impl;
 
-import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -26,8 +25,11 @@ import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static com.microsoft.playwright.impl.Serialization.gson;
 import static java.lang.System.currentTimeMillis;
@@ -41,6 +43,48 @@ class Message {
   SerializedError error;
   JsonObject errorDetails;
   JsonArray log;
+  // Set by the transport when the call failed before reaching the driver.
+  String localError;
+
+  // Reads the fields directly instead of going through Gson reflection, which
+  // would deep-copy params and result trees of every incoming message.
+  static Message fromJson(JsonObject json) {
+    Message message = new Message();
+    JsonElement id = json.get("id");
+    if (id != null) {
+      message.id = id.getAsInt();
+    }
+    JsonElement guid = json.get("guid");
+    if (guid != null) {
+      message.guid = guid.getAsString();
+    }
+    JsonElement method = json.get("method");
+    if (method != null) {
+      message.method = method.getAsString();
+    }
+    JsonElement params = json.get("params");
+    if (params != null && params.isJsonObject()) {
+      message.params = params.getAsJsonObject();
+    }
+    message.result = json.get("result");
+    JsonElement error = json.get("error");
+    if (error != null && !error.isJsonNull()) {
+      message.error = gson().fromJson(error, SerializedError.class);
+    }
+    JsonElement errorDetails = json.get("errorDetails");
+    if (errorDetails != null && errorDetails.isJsonObject()) {
+      message.errorDetails = errorDetails.getAsJsonObject();
+    }
+    JsonElement log = json.get("log");
+    if (log != null && log.isJsonArray()) {
+      message.log = log.getAsJsonArray();
+    }
+    JsonElement localError = json.get("localError");
+    if (localError != null) {
+      message.localError = localError.getAsString();
+    }
+    return message;
+  }
 
   @Override
   public String toString() {
@@ -62,8 +106,11 @@ public class Connection {
   private final Root root;
   final boolean isRemote;
   private int lastId = 0;
+  private static final long MAX_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
   private final StackTraceCollector stackTraceCollector;
   private final Map<Integer, WaitableResult<JsonElement>> callbacks = new HashMap<>();
+  // Calls failed by the transport, the driver still sends a reply for them.
+  private final Set<Integer> locallyFailedIds = new HashSet<>();
   private String title;
   private boolean titleReported = false;
   private static final boolean isLogging;
@@ -133,15 +180,21 @@ public class Connection {
   }
 
   public WaitableResult<JsonElement> sendMessageAsync(String guid, String method, JsonObject params) {
-    return internalSendMessage(guid, method, params, true, true);
+    return internalSendMessage(guid, method, params, true, true, false);
   }
 
   // Fire-and-forget: the server never replies.
   public void sendMessageNoReply(String guid, String method, JsonObject params) {
-    internalSendMessage(guid, method, params, false, false);
+    internalSendMessage(guid, method, params, false, false, false);
+  }
+
+  // Sent by the library itself rather than by an API call, e.g. when forwarding
+  // routed messages. Hidden from the inspector and sent without collecting a stack.
+  WaitableResult<JsonElement> sendInternalMessageAsync(String guid, String method, JsonObject params) {
+    return internalSendMessage(guid, method, params, false, true, true);
   }
 
-  private WaitableResult<JsonElement> internalSendMessage(String guid, String method, JsonObject params, boolean sendStack, boolean expectsReply) {
+  private WaitableResult<JsonElement> internalSendMessage(String guid, String method, JsonObject params, boolean sendStack, boolean expectsReply, boolean isInternal) {
     int id = ++lastId;
     WaitableResult<JsonElement> result = new WaitableResult<>();
     if (expectsReply) {
@@ -155,7 +208,7 @@ public class Connection {
     JsonObject metadata = new JsonObject();
     metadata.addProperty("wallTime", currentTimeMillis());
     JsonArray stack = null;
-    if (titleReported) {
+    if (titleReported || isInternal) {
       metadata.addProperty("internal", true);
     } else {
       if (title != null) {
@@ -183,7 +236,7 @@ public class Connection {
       callData.add("stack", stack);
       JsonObject stackParams = new JsonObject();
       stackParams.add("callData", callData);
-      internalSendMessage(localUtils.guid,"addStackToTracingNoReply", stackParams, false, true);
+      internalSendMessage(localUtils.guid,"addStackToTracingNoReply", stackParams, false, true, false);
     }
     return result;
   }
@@ -204,6 +257,10 @@ public class Connection {
     return result;
   }
 
+  void setCDPEventFilter(String sessionGuid, Set<String> methods) {
+    transport.setCDPEventFilter(sessionGuid, methods);
+  }
+
   void registerObject(String guid, ChannelOwner object) {
     objects.put(guid, object);
   }
@@ -212,14 +269,14 @@ public class Connection {
     objects.remove(guid);
   }
 
-  void processOneMessage() {
-    JsonObject message = transport.poll(Duration.ofMillis(10));
+  void processOneMessage(long maxWaitNanos) {
+    // Never block for long in one poll so that a transport failure that doesn't
+    // wake the poller (e.g. a dead writer) is still noticed.
+    JsonObject message = transport.poll(Duration.ofNanos(Math.min(maxWaitNanos, MAX_POLL_NANOS)));
     if (message == null) {
       return;
     }
-    Gson gson = gson();
-    Message messageObj = gson.fromJson(message, Message.class);
-    dispatch(messageObj);
+    dispatch(Message.fromJson(message));
   }
 
   private static String formatCallLog(JsonArray log) {
@@ -251,9 +308,17 @@ public class Connection {
     if (message.id != 0) {
       WaitableResult<JsonElement> callback = callbacks.get(message.id);
       if (callback == null) {
+        if (locallyFailedIds.remove(message.id)) {
+          return;
+        }
         throw new PlaywrightException("Cannot find command to respond: " + message.id);
       }
       callbacks.remove(message.id);
+      if (message.localError != null) {
+        locallyFailedIds.add(message.id);
+        callback.completeExceptionally(new PlaywrightException(message.localError));
+        return;
+      }
 //      System.out.println("Message: " + message.id + " " + message);
       if (message.error == null) {
         callback.complete(message.result);
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.impl.driver.Driver;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Starts {@code run-driver} processes ahead of time so that {@code Playwright.create()} does not
+ * wait for Node.js to boot. Each process still serves exactly one Playwright instance, the pool only
+ * keeps a few spare ones running. Disabled unless {@link #POOL_SIZE_PROPERTY} is set.
+ */
+class DriverProcessPool {
+  static final String POOL_SIZE_PROPERTY = "playwright.driver.pool.size";
+
+  private static final Deque<Process> idle = new ArrayDeque<>();
+  private static Driver idleDriver;
+  private static boolean isShutdownHookInstalled;
+
+  static Process start(Driver driver, boolean pooled) throws IOException {
+    if (!pooled) {
+      return launch(driver);
+    }
+    int size = poolSizeFromProperty();
+    synchronized (idle) {
+      if (idleDriver != driver) {
+        destroyIdle();
+        idleDriver = driver;
+      }
+      Process process = pollAlive();
+      // The pool may have been shrunk or disabled since the spare processes were started.
+      while (idle.size() > size) {
+        idle.pollLast().destroy();
+      }
+      if (process == null) {
+        process = launch(driver);
+      }
+      if (size == 0) {
+        return process;
+      }
+      installShutdownHook();
+      // Node.js boots in the background while the caller is busy with this process.
+      while (idle.size() < size) {
+        idle.add(launch(driver));
+      }
+      return process;
+    }
+  }
+
+  // Spare processes are not owned by any Playwright instance, so nobody else would stop them.
+  private static void installShutdownHook() {
+    if (isShutdownHookInstalled) {
+      return;
+    }
+    isShutdownHookInstalled = true;
+    Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+      synchronized (idle) {
+        destroyIdle();
+      }
+    }, "Playwright-DriverPool-Shutdown"));
+  }
+
+  private static Process pollAlive() {
+    for (Process process = idle.poll(); process != null; process = idle.poll()) {
+      if (process.isAlive()) {
+        return process;
+      }
+    }
+    return null;
+  }
+
+  private static void destroyIdle() {
+    for (Process process : idle) {
+      process.destroy();
+    }
+    idle.clear();
+  }
+
+  private static Process launch(Driver driver) throws IOException {
+    ProcessBuilder pb = driver.createProcessBuilder();
+    pb.command().add("run-driver");
+    pb.redirectError(ProcessBuilder.Redirect.INHERIT);
+    return pb.start();
+  }
+
+  private static int poolSizeFromProperty() {
+    String value = System.getProperty(POOL_SIZE_PROPERTY);
+    if (value == null) {
+      return 0;
+    }
+    try {
+      int size = Integer.parseInt(value);
+      if (size >= 0) {
+        return size;
+      }
+    } catch (NumberFormatException e) {
+    }
+    throw new PlaywrightException("Invalid " + POOL_SIZE_PROPERTY + " value: " + value);
+  }
+}
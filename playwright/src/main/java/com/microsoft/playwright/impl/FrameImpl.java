@@ -29,6 +29,7 @@ import java.nio.file.Path;
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import static com.microsoft.playwright.impl.LocatorUtils.*;
@@ -1147,24 +1148,26 @@ public class FrameImpl extends ChannelOwner implements Frame {
     return new TimeoutSettings().navigationTimeout(timeout);
   }
 
-  FrameExpectResult expect(String expression, FrameExpectOptions options, String title) {
-    return withTitle(title, () -> expect(expression, options));
-  }
-
-  FrameExpectResult expect(String expression, FrameExpectOptions options) {
+  // Sends the expect call without waiting for it, the returned supplier blocks
+  // until the server has reported the result.
+  Supplier<FrameExpectResult> expectAsync(String expression, FrameExpectOptions options, String title) {
     JsonObject params = gson().toJsonTree(options).getAsJsonObject();
     params.addProperty("expression", expression);
-    FrameExpectResult result = new FrameExpectResult();
-    try {
-      sendMessage("expect", params, options.timeout);
-      result.matches = !options.isNot;
-    } catch (ServerErrorWithDetails e) {
-      FrameExpectErrorDetails details = gson().fromJson(e.errorDetails(), FrameExpectErrorDetails.class);
-      result.matches = options.isNot;
-      result.received = details.received;
-      result.errorMessage = details.customErrorMessage == null ? null : "Error: " + details.customErrorMessage;
-      result.log = e.log();
-    }
-    return result;
+    params.addProperty("timeout", options.timeout);
+    WaitableResult<JsonElement> response = withTitle(title, () -> sendMessageAsync("expect", params));
+    return () -> {
+      FrameExpectResult result = new FrameExpectResult();
+      try {
+        runUntil(() -> {}, response);
+        result.matches = !options.isNot;
+      } catch (ServerErrorWithDetails e) {
+        FrameExpectErrorDetails details = gson().fromJson(e.errorDetails(), FrameExpectErrorDetails.class);
+        result.matches = options.isNot;
+        result.received = details.received;
+        result.errorMessage = details.customErrorMessage == null ? null : "Error: " + details.customErrorMessage;
+        result.log = e.log();
+      }
+      return result;
+    };
   }
 }
@@ -65,6 +65,11 @@ class JsonPipe extends ChannelOwner implements Transport {
         return false;
       }
 
+      @Override
+      public long nanosUntilDeadline() {
+        return Math.max(0, timeout.minus(Duration.between(start, Instant.now())).toNanos());
+      }
+
       @Override
       public JsonObject get() {
         return message;
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.microsoft.playwright.PlaywrightException;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * File contents that are base64-encoded straight into the driver pipe instead of being read into
+ * memory when the message is built. The message carries a placeholder string in place of the
+ * base64 value, {@link PipeTransport} replaces it while writing the message out.
+ *
+ * <p> The frame length is written before the file, so the size of each file is taken when its
+ * placeholder is created and exactly that many bytes are written even if the file changes
+ * afterwards. The call is failed instead.
+ */
+class LazyFileContent {
+  // The driver parses each message as one string, V8 strings are limited to 2^29 - 24 characters.
+  static final long MAX_MESSAGE_LENGTH = (1L << 29) - 24;
+  private static final String PREFIX = "__playwright_file_content_";
+  private static final String SUFFIX = "__";
+  private static final Map<String, Source> sources = new ConcurrentHashMap<>();
+
+  private static class Source {
+    final String id;
+    final Path path;
+    final long size;
+    final boolean isTemporary;
+
+    Source(String id, Path path, long size, boolean isTemporary) {
+      this.id = id;
+      this.path = path;
+      this.size = size;
+      this.isTemporary = isTemporary;
+    }
+  }
+
+  static String placeholder(Path path) {
+    return placeholder(path, false);
+  }
+
+  // The stream is spooled to a temporary file so that the message length is known before it is written.
+  // The file is deleted once the message has been sent or dropped.
+  static String placeholder(InputStream stream) {
+    Path file;
+    try {
+      file = Files.createTempFile("playwright-body-", null);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to create temporary file", e);
+    }
+    try {
+      try (InputStream in = stream) {
+        Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+      }
+      return placeholder(file, true);
+    } catch (IOException | PlaywrightException e) {
+      deleteQuietly(file);
+      if (e instanceof PlaywrightException) {
+        throw (PlaywrightException) e;
+      }
+      throw new PlaywrightException("Failed to read request body", e);
+    }
+  }
+
+  private static String placeholder(Path path, boolean isTemporary) {
+    long size;
+    try {
+      size = Files.size(path);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to read from file", e);
+    }
+    if (base64Length(size) > MAX_MESSAGE_LENGTH) {
+      throw new PlaywrightException("File is too large to be sent: " + path);
+    }
+    String id = PREFIX + UUID.randomUUID().toString().replace("-", "") + SUFFIX;
+    sources.put(id, new Source(id, path, size, isTemporary));
+    return id;
+  }
+
+  static boolean hasPlaceholders(String message) {
+    return message.contains(PREFIX);
+  }
+
+  /**
+   * Returns the size of the message in UTF-8 once the placeholders have been replaced.
+   */
+  static long encodedLength(String message) {
+    long length = 0;
+    for (Object segment : split(message)) {
+      if (segment instanceof Source) {
+        length += base64Length(((Source) segment).size);
+      } else {
+        length += ((String) segment).getBytes(StandardCharsets.UTF_8).length;
+      }
+    }
+    return length;
+  }
+
+  static void checkLength(String message) {
+    long length = encodedLength(message);
+    if (length > MAX_MESSAGE_LENGTH) {
+      throw new PlaywrightException("Message of " + length + " bytes exceeds the maximum size of " + MAX_MESSAGE_LENGTH + " bytes");
+    }
+  }
+
+  /**
+   * Writes exactly {@link #encodedLength} bytes. If a file can't be read or its size has changed,
+   * the missing bytes are padded with zeros so that the pipe stays in sync, and {@code onFileError}
+   * is called before the rest of the message is written.
+   */
+  static void writeTo(String message, OutputStream out, Consumer<String> onFileError) throws IOException {
+    for (Object segment : split(message)) {
+      if (segment instanceof Source) {
+        Source source = (Source) segment;
+        String error;
+        // Closing the encoder writes the padding, the underlying stream must stay open.
+        try (OutputStream encoder = Base64.getEncoder().wrap(new FilterOutputStream(out) {
+          @Override
+          public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+          }
+
+          @Override
+          public void close() {
+          }
+        })) {
+          error = copyExactly(source, encoder);
+        }
+        release(source);
+        if (error != null) {
+          onFileError.accept(error);
+        }
+      } else {
+        out.write(((String) segment).getBytes(StandardCharsets.UTF_8));
+      }
+    }
+  }
+
+  // Copies source.size bytes of the file. Read errors are returned, write errors are thrown.
+  private static String copyExactly(Source source, OutputStream out) throws IOException {
+    byte[] buffer = new byte[64 * 1024];
+    long remaining = source.size;
+    String error = null;
+    try (InputStream in = Files.newInputStream(source.path)) {
+      while (remaining > 0) {
+        int read;
+        try {
+          read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+        } catch (IOException e) {
+          error = "Failed to read from file " + source.path + ": " + e.getMessage();
+          break;
+        }
+        if (read == -1) {
+          error = "File " + source.path + " was truncated while being sent";
+          break;
+        }
+        out.write(buffer, 0, read);
+        remaining -= read;
+      }
+      if (error == null && in.read() != -1) {
+        error = "File " + source.path + " grew while being sent";
+      }
+    } catch (IOException e) {
+      if (error == null) {
+        error = "Failed to read from file " + source.path + ": " + e.getMessage();
+      }
+    }
+    Arrays.fill(buffer, (byte) 0);
+    while (remaining > 0) {
+      int count = (int) Math.min(buffer.length, remaining);
+      out.write(buffer, 0, count);
+      remaining -= count;
+    }
+    return error;
+  }
+
+  /**
+   * Replaces the placeholders with the file contents in memory, for transports that cannot stream.
+   */
+  static String expand(String message) {
+    StringBuilder result = new StringBuilder();
+    for (Object segment : split(message)) {
+      if (segment instanceof Source) {
+        Source source = (Source) segment;
+        byte[] bytes;
+        try {
+          bytes = Files.readAllBytes(source.path);
+        } catch (IOException e) {
+          releaseAll(message);
+          throw new PlaywrightException("Failed to read from file", e);
+        }
+        release(source);
+        if (bytes.length != source.size) {
+          releaseAll(message);
+          throw new PlaywrightException("File " + source.path + " changed size while being sent");
+        }
+        result.append(Base64.getEncoder().encodeToString(bytes));
+      } else {
+        result.append((String) segment);
+      }
+    }
+    return result.toString();
+  }
+
+  // Releases the sources of a message that won't be sent.
+  static void releaseAll(String message) {
+    for (Object segment : split(message)) {
+      if (segment instanceof Source) {
+        release((Source) segment);
+      }
+    }
+  }
+
+  private static void release(Source source) {
+    sources.remove(source.id);
+    if (source.isTemporary) {
+      deleteQuietly(source.path);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      e.printStackTrace(System.err);
+    }
+  }
+
+  // Splits the message into text segments and sources.
+  private static List<Object> split(String message) {
+    List<Object> segments = new ArrayList<>();
+    int start = 0;
+    for (int index = message.indexOf(PREFIX); index != -1; index = message.indexOf(PREFIX, start)) {
+      int end = message.indexOf(SUFFIX, index + PREFIX.length());
+      if (end == -1) {
+        break;
+      }
+      end += SUFFIX.length();
+      Source source = sources.get(message.substring(index, end));
+      if (source == null) {
+        // Not one of ours, leave it as is.
+        segments.add(message.substring(start, end));
+      } else {
+        segments.add(message.substring(start, index));
+        segments.add(source);
+      }
+      start = end;
+    }
+    segments.add(message.substring(start));
+    return segments;
+  }
+
+  private static long base64Length(long size) {
+    return (size + 2) / 3 * 4;
+  }
+}
@@ -23,7 +23,10 @@ import java.util.*;
 import java.util.function.Consumer;
 
 class ListenerCollection <EventType> {
-  private final HashMap<EventType, List<Consumer<?>>> listeners = new HashMap<>();
+  // Listener arrays are copied on add/remove and never modified in place, so
+  // notify() can iterate them directly even if listeners unsubscribe while
+  // handling the event.
+  private final HashMap<EventType, Consumer<?>[]> listeners = new HashMap<>();
   private final Map<EventType, String> eventSubscriptions;
   private final ChannelOwner channelOwner;
 
@@ -36,12 +39,12 @@ class ListenerCollection <EventType> {
   }
 
   <T> void notify(EventType eventType, T param) {
-    List<Consumer<?>> list = listeners.get(eventType);
+    Consumer<?>[] list = listeners.get(eventType);
     if (list == null) {
       return;
     }
 
-    for (Consumer<?> listener: new ArrayList<>(list)) {
+    for (Consumer<?> listener: list) {
       ((Consumer<T>) listener).accept(param);
     }
   }
@@ -50,25 +53,44 @@ class ListenerCollection <EventType> {
     if (listener == null) {
       throw new PlaywrightException("Can't add a null listener");
     }
-    List<Consumer<?>> list = listeners.get(type);
+    Consumer<?>[] list = listeners.get(type);
     if (list == null) {
-      list = new ArrayList<>();
-      listeners.put(type, list);
+      listeners.put(type, new Consumer<?>[] { listener });
       updateSubscription(type, true);
+      return;
     }
-    list.add(listener);
+    list = Arrays.copyOf(list, list.length + 1);
+    list[list.length - 1] = listener;
+    listeners.put(type, list);
   }
 
   void remove(EventType type, Consumer<?>  listener) {
-    List<Consumer<?>> list = listeners.get(type);
+    Consumer<?>[] list = listeners.get(type);
     if (list == null) {
       return;
     }
-    list.removeAll(Collections.singleton(listener));
-    if (list.isEmpty()) {
+    int remaining = 0;
+    for (Consumer<?> l : list) {
+      if (!l.equals(listener)) {
+        ++remaining;
+      }
+    }
+    if (remaining == list.length) {
+      return;
+    }
+    if (remaining == 0) {
       updateSubscription(type, false);
       listeners.remove(type);
+      return;
+    }
+    Consumer<?>[] newList = new Consumer<?>[remaining];
+    int i = 0;
+    for (Consumer<?> l : list) {
+      if (!l.equals(listener)) {
+        newList[i++] = l;
+      }
     }
+    listeners.put(type, newList);
   }
 
   boolean hasListeners(EventType type) {
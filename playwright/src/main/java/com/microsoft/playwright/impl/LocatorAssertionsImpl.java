@@ -24,6 +24,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import static com.microsoft.playwright.impl.Serialization.serializeArgument;
@@ -42,8 +43,8 @@ public class LocatorAssertionsImpl extends AssertionsBase implements LocatorAsse
   }
 
   @Override
-  FrameExpectResult doExpect(String expression, FrameExpectOptions expectOptions, String title) {
-    return actualLocator.expect(expression, expectOptions, title);
+  Supplier<FrameExpectResult> doExpect(String expression, FrameExpectOptions expectOptions, String title) {
+    return actualLocator.expectAsync(expression, expectOptions, title);
   }
 
 
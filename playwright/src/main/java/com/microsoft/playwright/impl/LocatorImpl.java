@@ -24,6 +24,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -689,9 +690,9 @@ class LocatorImpl implements Locator {
     return frame.hashCode() ^ selector.hashCode();
   }
 
-  FrameExpectResult expect(String expression, FrameExpectOptions options, String title) {
+  Supplier<FrameExpectResult> expectAsync(String expression, FrameExpectOptions options, String title) {
     options.selector = selector;
-    return frame.expect(expression, options, title);
+    return frame.expectAsync(expression, options, title);
   }
 
   JsonObject toProtocol() {
@@ -22,9 +22,11 @@ import java.time.format.DateTimeFormatter;
 
 class LoggingSupport {
   private static final boolean isEnabled;
+  private static final boolean isInstallEnabled;
   static {
     String debug = System.getenv("DEBUG");
     isEnabled = (debug != null) && debug.contains("pw:api");
+    isInstallEnabled = (debug != null) && debug.contains("pw:install");
   }
 
   private static final DateTimeFormatter timestampFormat = DateTimeFormatter.ofPattern(
@@ -42,6 +44,13 @@ class LoggingSupport {
     }
   }
 
+  // Same channel as the driver installation messages, see Driver.logMessage.
+  static void logInstallIfEnabled(String message) {
+    if (isInstallEnabled) {
+      logWithTimestamp("pw:install " + message);
+    }
+  }
+
   static void logApi(String message) {
     // This matches log format produced by the server.
     logWithTimestamp("pw:api " + message);
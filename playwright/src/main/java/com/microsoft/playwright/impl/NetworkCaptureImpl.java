@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.NetworkCapture;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.options.Timing;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Appends a JSON line for every finished or failed request of a context to a file. Records are built
+ * from the data the driver has already sent with the network events, so capturing does not make any
+ * protocol calls. They are serialized and written on a background thread. The queue between the two
+ * is bounded, if the file can't keep up the dispatching thread waits rather than dropping records.
+ */
+class NetworkCaptureImpl implements NetworkCapture {
+  private static final int QUEUE_SIZE = 1000;
+  // Put into the queue to stop the writer.
+  private static final Record EOF = new Record();
+
+  private final BrowserContextImpl context;
+  private final Path path;
+  private final BlockingQueue<Record> records = new ArrayBlockingQueue<>(QUEUE_SIZE);
+  private final Thread writerThread;
+  private final Consumer<Request> onRequestFinished = request -> capture(request, null);
+  private final Consumer<Request> onRequestFailed = request -> capture(request, request.failure());
+  private final Consumer<BrowserContext> onContextClose = context -> close();
+  private volatile IOException error;
+  private boolean isClosed;
+
+  // Serialized by Gson on the writer thread, null fields are omitted.
+  private static class Record {
+    String url;
+    String method;
+    String resourceType;
+    Map<String, String> requestHeaders;
+    Integer status;
+    String statusText;
+    Map<String, String> responseHeaders;
+    Timing timing;
+    String failure;
+  }
+
+  NetworkCaptureImpl(BrowserContextImpl context, Path path) {
+    this.context = context;
+    this.path = path;
+    Writer writer;
+    try {
+      Utils.mkParentDirs(path);
+      writer = Files.newBufferedWriter(path, UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to open network capture file " + path, e);
+    }
+    writerThread = new Thread(() -> writeRecords(writer), "Playwright-NetworkCapture");
+    writerThread.setDaemon(true);
+    writerThread.start();
+    context.onRequestFinished(onRequestFinished);
+    context.onRequestFailed(onRequestFailed);
+    context.onClose(onContextClose);
+  }
+
+  private void capture(Request request, String failure) {
+    if (error != null) {
+      return;
+    }
+    Record record = new Record();
+    record.url = request.url();
+    record.method = request.method();
+    record.resourceType = request.resourceType();
+    record.requestHeaders = request.headers();
+    ResponseImpl response = ((RequestImpl) request).existingResponse();
+    if (response != null) {
+      record.status = response.status();
+      record.statusText = response.statusText();
+      record.responseHeaders = response.headers();
+    }
+    record.timing = request.timing();
+    record.failure = failure;
+    put(record);
+  }
+
+  // Waits for room in the queue, unless the writer has stopped after an error.
+  private void put(Record record) {
+    try {
+      while (writerThread.isAlive() && !records.offer(record, 100, TimeUnit.MILLISECONDS)) {
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PlaywrightException("Interrupted while capturing network", e);
+    }
+  }
+
+  private void writeRecords(Writer writer) {
+    try (Writer out = writer) {
+      while (true) {
+        Record record = records.take();
+        if (record == EOF) {
+          break;
+        }
+        out.write(gson().toJson(record));
+        out.write('\n');
+        if (records.isEmpty()) {
+          out.flush();
+        }
+      }
+    } catch (IOException e) {
+      error = e;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public void close() {
+    if (isClosed) {
+      return;
+    }
+    isClosed = true;
+    context.offRequestFinished(onRequestFinished);
+    context.offRequestFailed(onRequestFailed);
+    context.offClose(onContextClose);
+    put(EOF);
+    try {
+      writerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    if (error != null) {
+      throw new PlaywrightException("Failed to write network capture file " + path, error);
+    }
+  }
+}
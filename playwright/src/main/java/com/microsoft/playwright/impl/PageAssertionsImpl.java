@@ -19,6 +19,7 @@ package com.microsoft.playwright.impl;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.assertions.PageAssertions;
 
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 import static com.microsoft.playwright.impl.UrlMatcher.resolveUrl;
@@ -37,9 +38,9 @@ public class PageAssertionsImpl extends AssertionsBase implements PageAssertions
   }
 
   @Override
-  FrameExpectResult doExpect(String expression, FrameExpectOptions expectOptions, String title) {
+  Supplier<FrameExpectResult> doExpect(String expression, FrameExpectOptions expectOptions, String title) {
     FrameImpl frame = (FrameImpl) actualPage.mainFrame();
-    return frame.expect(expression, expectOptions, title);
+    return frame.expectAsync(expression, expectOptions, title);
   }
 
   @Override
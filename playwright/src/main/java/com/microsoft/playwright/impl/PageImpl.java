@@ -103,6 +103,62 @@ public class PageImpl extends ChannelOwner implements Page {
   private VideoImpl video;
   private final PageImpl opener;
   private String closeReason;
+  private boolean isCollectingMetrics;
+
+  // Observes the metrics that are only reported as they happen, buffered: true also delivers the entries
+  // recorded before the observer was created.
+  // The counters live in a non-enumerable, symbol-keyed property so that they don't show up
+  // among the page's own globals.
+  private static final String METRICS_COLLECTOR_SCRIPT = "(() => {\n" +
+    "  const key = Symbol.for('playwright.metrics');\n" +
+    "  if (window[key])\n" +
+    "    return;\n" +
+    "  const metrics = { cumulativeLayoutShift: 0, longTaskCount: 0, longTaskDuration: 0 };\n" +
+    "  Object.defineProperty(window, key, { value: metrics, enumerable: false });\n" +
+    "  const observe = (type, callback) => {\n" +
+    "    try {\n" +
+    "      new PerformanceObserver(list => list.getEntries().forEach(callback)).observe({ type, buffered: true });\n" +
+    "    } catch (e) {\n" +
+    "      // Entry type is not supported by the browser.\n" +
+    "    }\n" +
+    "  };\n" +
+    "  observe('largest-contentful-paint', e => metrics.largestContentfulPaint = e.startTime);\n" +
+    "  observe('layout-shift', e => {\n" +
+    "    if (!e.hadRecentInput)\n" +
+    "      metrics.cumulativeLayoutShift += e.value;\n" +
+    "  });\n" +
+    "  observe('longtask', e => {\n" +
+    "    metrics.longTaskCount++;\n" +
+    "    metrics.longTaskDuration += e.duration;\n" +
+    "  });\n" +
+    "})()";
+
+  private static final String METRICS_SCRIPT = "() => {\n" +
+    "  const navigation = performance.getEntriesByType('navigation')[0];\n" +
+    "  const paint = name => {\n" +
+    "    const entry = performance.getEntriesByName(name, 'paint')[0];\n" +
+    "    return entry ? entry.startTime : undefined;\n" +
+    "  };\n" +
+    "  const memory = performance.memory;\n" +
+    "  return {\n" +
+    "    ...window[Symbol.for('playwright.metrics')],\n" +
+    "    url: location.href,\n" +
+    "    timeToFirstByte: navigation ? navigation.responseStart : undefined,\n" +
+    "    domContentLoaded: navigation ? navigation.domContentLoadedEventEnd : undefined,\n" +
+    "    load: navigation ? navigation.loadEventEnd : undefined,\n" +
+    "    firstPaint: paint('first-paint'),\n" +
+    "    firstContentfulPaint: paint('first-contentful-paint'),\n" +
+    "    jsHeapUsedSize: memory ? memory.usedJSHeapSize : undefined,\n" +
+    "    jsHeapTotalSize: memory ? memory.totalJSHeapSize : undefined,\n" +
+    "    resources: performance.getEntriesByType('resource').map(e => ({\n" +
+    "      name: e.name,\n" +
+    "      initiatorType: e.initiatorType,\n" +
+    "      startTime: e.startTime,\n" +
+    "      duration: e.duration,\n" +
+    "      transferSize: e.transferSize,\n" +
+    "    })),\n" +
+    "  };\n" +
+    "}";
 
   enum EventType {
     CLOSE,
@@ -250,6 +306,7 @@ public class PageImpl extends ChannelOwner implements Page {
 
   void didClose() {
     isClosed = true;
+    screencast.handlePageClose();
     browserContext.pages.remove(this);
     listeners.notify(EventType.CLOSE, this);
     browserContext.notifyPageClose(this);
@@ -1652,6 +1709,23 @@ public class PageImpl extends ChannelOwner implements Page {
     return new ArrayList<>(workers);
   }
 
+  @Override
+  public void startMetrics() {
+    if (isCollectingMetrics) {
+      return;
+    }
+    // Install in the current document too, the init script only runs in the next ones.
+    addInitScriptImpl(METRICS_COLLECTOR_SCRIPT);
+    mainFrame.evaluate(METRICS_COLLECTOR_SCRIPT, null);
+    isCollectingMetrics = true;
+  }
+
+  @Override
+  public PageMetrics metrics() {
+    Object metrics = mainFrame.evaluate(METRICS_SCRIPT, null);
+    return gson().fromJson(gson().toJsonTree(metrics), PageMetrics.class);
+  }
+
   @Override
   public void onceDialog(Consumer<Dialog> handler) {
     onDialog(new Consumer<Dialog>() {
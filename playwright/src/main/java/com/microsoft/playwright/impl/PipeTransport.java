@@ -15,21 +15,36 @@
  */
 package com.microsoft.playwright.impl;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.PlaywrightException;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import static com.microsoft.playwright.impl.Serialization.gson;
+import static java.util.Arrays.asList;
 
 public class PipeTransport implements Transport {
-  private final BlockingQueue<JsonObject> incoming = new ArrayBlockingQueue<>(1000);
-  private final BlockingQueue<String> outgoing= new ArrayBlockingQueue<>(1000);
+  // Capacity of the incoming and outgoing message queues.
+  static final String QUEUE_SIZE_PROPERTY = "playwright.pipe.queue.size";
+  // What the reader does with droppable events when the incoming queue is full:
+  // "block" (default) waits for the dispatcher, "drop" discards the event.
+  static final String OVERFLOW_PROPERTY = "playwright.pipe.overflow";
+  private static final int DEFAULT_QUEUE_SIZE = 1000;
+
+  private final BlockingQueue<JsonObject> incoming;
+  private final BlockingQueue<String> outgoing;
+  // CDP session guid -> CDP events that have listeners.
+  private final Map<String, Set<String>> cdpEventFilters = new ConcurrentHashMap<>();
 
   private final ReaderThread readerThread;
   private final WriterThread writerThread;
@@ -37,25 +52,74 @@ public class PipeTransport implements Transport {
   private boolean isClosed;
 
   PipeTransport(InputStream input, OutputStream output) {
+    int queueSize = queueSizeFromProperty();
+    incoming = new ArrayBlockingQueue<>(queueSize);
+    outgoing = new ArrayBlockingQueue<>(queueSize);
     DataInputStream in = new DataInputStream(new BufferedInputStream(input));
-    readerThread = new ReaderThread(in, incoming);
+    readerThread = new ReaderThread(in, incoming, "drop".equals(System.getProperty(OVERFLOW_PROPERTY)), cdpEventFilters);
     readerThread.start();
-    writerThread = new WriterThread(output, outgoing);
+    writerThread = new WriterThread(output, outgoing, incoming);
     writerThread.start();
   }
 
+  private static int queueSizeFromProperty() {
+    String value = System.getProperty(QUEUE_SIZE_PROPERTY);
+    if (value == null) {
+      return DEFAULT_QUEUE_SIZE;
+    }
+    try {
+      int size = Integer.parseInt(value);
+      if (size > 0) {
+        return size;
+      }
+    } catch (NumberFormatException e) {
+    }
+    throw new PlaywrightException("Invalid " + QUEUE_SIZE_PROPERTY + " value: " + value);
+  }
+
+  // Overflow statistics, reported in a warning when the transport is closed.
+  int maxIncomingQueueDepth() {
+    return readerThread.maxQueueDepth;
+  }
+
+  long droppedEventCount() {
+    return readerThread.droppedEvents;
+  }
+
+  long filteredCDPEventCount() {
+    return readerThread.filteredCDPEvents;
+  }
+
   @Override
-  public void send(JsonObject message) {
-    if (isClosed) {
-      throw new PlaywrightException("Playwright connection closed");
+  public void setCDPEventFilter(String sessionGuid, Set<String> methods) {
+    if (methods == null) {
+      cdpEventFilters.remove(sessionGuid);
+    } else {
+      cdpEventFilters.put(sessionGuid, methods);
     }
+  }
+
+  @Override
+  public void send(JsonObject message) {
+    // We could serialize the message on the IO thread but there is no guarantee
+    // that the message object won't be modified on this thread after it's added
+    // to the queue.
+    String text = gson().toJson(message);
     try {
-      // We could serialize the message on the IO thread but there is no guarantee
-      // that the message object won't be modified on this thread after it's added
-      // to the queue.
-      outgoing.put(gson().toJson(message));
+      if (isClosed) {
+        throw new PlaywrightException("Playwright connection closed");
+      }
+      checkWriter();
+      if (LazyFileContent.hasPlaceholders(text)) {
+        LazyFileContent.checkLength(text);
+      }
+      outgoing.put(text);
     } catch (InterruptedException e) {
+      LazyFileContent.releaseAll(text);
       throw new PlaywrightException("Failed to send message", e);
+    } catch (PlaywrightException e) {
+      LazyFileContent.releaseAll(text);
+      throw e;
     }
   }
 
@@ -65,7 +129,16 @@ public class PipeTransport implements Transport {
       throw new PlaywrightException("Playwright connection closed");
     }
     try {
-      JsonObject message = incoming.poll(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      // The EOF marker may not fit into a full queue, so don't block once the
+      // reader has failed.
+      JsonObject message = readerThread.exception == null ?
+        incoming.poll(timeout.toNanos(), TimeUnit.NANOSECONDS) : incoming.poll();
+      if (message == ReaderThread.EOF) {
+        message = null;
+      }
+      if (message == null) {
+        checkWriter();
+      }
       if (message == null && readerThread.exception != null) {
         try {
           close();
@@ -80,26 +153,61 @@ public class PipeTransport implements Transport {
     }
   }
 
+  // Messages can't be delivered once the writer has failed, so the pending calls would never complete.
+  private void checkWriter() {
+    if (writerThread.exception == null) {
+      return;
+    }
+    try {
+      close();
+    } catch (IOException e) {
+      e.printStackTrace(System.err);
+    }
+    throw new PlaywrightException("Failed to write message to driver, pipe closed.", writerThread.exception);
+  }
+
   @Override
   public void close() throws IOException {
     if (isClosed) {
       return;
     }
     isClosed = true;
+    if (droppedEventCount() > 0) {
+      LoggingSupport.logWithTimestamp("WARNING: Dropped " + droppedEventCount() + " events on incoming queue overflow, " +
+        "consider increasing " + QUEUE_SIZE_PROPERTY + " (max queue depth " + maxIncomingQueueDepth() + ")");
+    }
     // We interrupt only the outgoing pipe and keep reader thread running as
     // otherwise child process may block on writing to its stdout and never
     // exit (observed on Windows).
     readerThread.isClosing = true;
     writerThread.out.close();
     writerThread.interrupt();
+    // Release the files of the messages that will never be written.
+    for (String message; (message = outgoing.poll()) != null; ) {
+      LazyFileContent.releaseAll(message);
+    }
   }
 }
 
 class ReaderThread extends Thread {
+  // Put into the queue when the pipe breaks so that a poller blocked until
+  // its next deadline wakes up immediately instead.
+  static final JsonObject EOF = new JsonObject();
+  // High-volume events that carry no state the client depends on, so they can
+  // be discarded when the dispatcher falls behind.
+  private static final Set<String> DROPPABLE_EVENTS = new HashSet<>(asList("console", "screencastFrame"));
+  // CDP events are serialized by the driver as {"guid":"...","method":"event","params":{"method":"...",...}}.
+  private static final String GUID_PREFIX = "{\"guid\":\"";
+  private static final String CDP_EVENT_INFIX = "\",\"method\":\"event\",\"params\":{\"method\":\"";
   private final DataInputStream in;
   private final BlockingQueue<JsonObject> queue;
+  private final boolean dropOnOverflow;
+  private final Map<String, Set<String>> cdpEventFilters;
   volatile boolean isClosing;
   volatile Exception exception;
+  volatile int maxQueueDepth;
+  volatile long droppedEvents;
+  volatile long filteredCDPEvents;
 
   private static int readIntLE(DataInputStream in) throws IOException {
     int ch1 = in.read();
@@ -113,20 +221,28 @@ class ReaderThread extends Thread {
     }
   }
 
-  ReaderThread(DataInputStream in, BlockingQueue<JsonObject> queue) {
+  ReaderThread(DataInputStream in, BlockingQueue<JsonObject> queue, boolean dropOnOverflow, Map<String, Set<String>> cdpEventFilters) {
     this.in = in;
     this.queue = queue;
+    this.dropOnOverflow = dropOnOverflow;
+    this.cdpEventFilters = cdpEventFilters;
   }
 
   @Override
   public void run() {
     while (!isInterrupted()) {
       try {
-        JsonObject message = gson().fromJson(readMessage(), JsonObject.class);
-        queue.put(message);
+        String text = readMessage();
+        if (isFilteredCDPEvent(text)) {
+          ++filteredCDPEvents;
+          continue;
+        }
+        JsonObject message = gson().fromJson(text, JsonObject.class);
+        enqueue(message);
       } catch (IOException e) {
         if (!isInterrupted() && !isClosing) {
           exception = e;
+          queue.offer(EOF);
         }
         break;
       } catch (InterruptedException e) {
@@ -135,6 +251,52 @@ class ReaderThread extends Thread {
     }
   }
 
+  private void enqueue(JsonObject message) throws InterruptedException {
+    if (dropOnOverflow && isDroppable(message)) {
+      if (!queue.offer(message)) {
+        if (droppedEvents == 0) {
+          LoggingSupport.logWithTimestamp("WARNING: Playwright is not keeping up with incoming events, dropping " +
+            message.get("method").getAsString() + " and other droppable events");
+        }
+        ++droppedEvents;
+        return;
+      }
+    } else {
+      queue.put(message);
+    }
+    int depth = queue.size();
+    if (depth > maxQueueDepth) {
+      maxQueueDepth = depth;
+    }
+  }
+
+  private static boolean isDroppable(JsonObject message) {
+    if (message.has("id")) {
+      return false;
+    }
+    JsonElement method = message.get("method");
+    return method != null && DROPPABLE_EVENTS.contains(method.getAsString());
+  }
+
+  // Checks the message prefix so that CDP events nobody listens to are dropped without being parsed.
+  // Anything that doesn't look exactly like a CDP event is parsed and dispatched as usual.
+  private boolean isFilteredCDPEvent(String message) {
+    if (cdpEventFilters.isEmpty() || !message.startsWith(GUID_PREFIX)) {
+      return false;
+    }
+    int guidEnd = message.indexOf('"', GUID_PREFIX.length());
+    if (guidEnd == -1 || !message.startsWith(CDP_EVENT_INFIX, guidEnd)) {
+      return false;
+    }
+    Set<String> methods = cdpEventFilters.get(message.substring(GUID_PREFIX.length(), guidEnd));
+    if (methods == null) {
+      return false;
+    }
+    int methodStart = guidEnd + CDP_EVENT_INFIX.length();
+    int methodEnd = message.indexOf('"', methodStart);
+    return methodEnd != -1 && !methods.contains(message.substring(methodStart, methodEnd));
+  }
+
   private String readMessage() throws IOException {
     int len = readIntLE(in);
     byte[] raw = new byte[len];
@@ -146,6 +308,9 @@ class ReaderThread extends Thread {
 class WriterThread extends Thread {
   final OutputStream out;
   private final BlockingQueue<String> queue;
+  // Replies generated locally for calls that failed while being written.
+  private final BlockingQueue<JsonObject> incoming;
+  volatile Exception exception;
 
   private static void writeIntLE(OutputStream out, int v) throws IOException {
     out.write(v >>> 0 & 255);
@@ -154,9 +319,10 @@ class WriterThread extends Thread {
     out.write(v >>> 24 & 255);
   }
 
-  WriterThread(OutputStream out, BlockingQueue<String> queue) {
+  WriterThread(OutputStream out, BlockingQueue<String> queue, BlockingQueue<JsonObject> incoming) {
     this.out = out;
     this.queue = queue;
+    this.incoming = incoming;
   }
 
   @Override
@@ -167,8 +333,11 @@ class WriterThread extends Thread {
           out.flush();
         sendMessage(queue.take());
       } catch (IOException e) {
-        if (!isInterrupted())
-          e.printStackTrace();
+        if (!isInterrupted()) {
+          exception = e;
+          // Wake up the poller, it reports the failure.
+          incoming.offer(ReaderThread.EOF);
+        }
         break;
       } catch (InterruptedException e) {
         break;
@@ -176,7 +345,30 @@ class WriterThread extends Thread {
     }
   }
 
-  private void sendMessage(String message) throws IOException {
+  private void sendMessage(String message) throws IOException, InterruptedException {
+    if (LazyFileContent.hasPlaceholders(message)) {
+      writeIntLE(out, (int) LazyFileContent.encodedLength(message));
+      boolean[] failed = { false };
+      LazyFileContent.writeTo(message, out, error -> {
+        if (failed[0]) {
+          return;
+        }
+        failed[0] = true;
+        // Queued before the rest of the message is written, so it always precedes the driver's reply.
+        JsonObject reply = new JsonObject();
+        reply.addProperty("id", gson().fromJson(message, JsonObject.class).get("id").getAsInt());
+        reply.addProperty("localError", error);
+        try {
+          incoming.put(reply);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      });
+      if (isInterrupted()) {
+        throw new InterruptedException();
+      }
+      return;
+    }
     byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
     writeIntLE(out, bytes.length);
     out.write(bytes);
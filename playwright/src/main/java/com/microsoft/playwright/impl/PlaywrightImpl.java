@@ -31,6 +31,7 @@ import java.util.concurrent.TimeUnit;
 
 public class PlaywrightImpl extends ChannelOwner implements Playwright {
   private Process driverProcess;
+  private StartupTiming startupTiming;
 
   public static PlaywrightImpl create(CreateOptions options) {
     return createImpl(options, false);
@@ -41,17 +42,23 @@ public class PlaywrightImpl extends ChannelOwner implements Playwright {
     if (options != null && options.env != null) {
       env = options.env;
     }
+    StartupTiming timing = new StartupTiming();
+    long start = System.nanoTime();
     Driver driver = forceNewDriverInstanceForTests ?
       Driver.createAndInstall(env, true) :
       Driver.ensureDriverInstalled(env, true);
+    timing.record("ensureDriverInstalled", start);
     try {
-      ProcessBuilder pb = driver.createProcessBuilder();
-      pb.command().add("run-driver");
-      pb.redirectError(ProcessBuilder.Redirect.INHERIT);
-      Process p = pb.start();
+      start = System.nanoTime();
+      Process p = DriverProcessPool.start(driver, !forceNewDriverInstanceForTests);
+      timing.record("startDriverProcess", start);
+      start = System.nanoTime();
       Connection connection = new Connection(new PipeTransport(p.getInputStream(), p.getOutputStream()), env);
       PlaywrightImpl result = connection.initializePlaywright();
+      timing.record("initialize", start);
       result.driverProcess = p;
+      result.startupTiming = timing;
+      LoggingSupport.logInstallIfEnabled("Playwright.create() " + timing);
       return result;
     } catch (IOException e) {
       throw new PlaywrightException("Failed to launch driver", e);
@@ -78,6 +85,10 @@ public class PlaywrightImpl extends ChannelOwner implements Playwright {
     apiRequest = new APIRequestImpl(this);
   }
 
+  public StartupTiming startupTiming() {
+    return startupTiming;
+  }
+
   public LocalUtils localUtils() {
     return connection.localUtils;
   }
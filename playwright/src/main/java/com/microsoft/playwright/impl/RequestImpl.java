@@ -34,10 +34,13 @@ import static com.microsoft.playwright.impl.Utils.toHeadersMap;
 import static java.util.Arrays.asList;
 
 public class RequestImpl extends ChannelOwner implements Request {
-  private final byte[] postData;
+  // Headers and post data are decoded on first access: most requests that
+  // reach event listeners are filtered out by url or resource type and never
+  // look at them.
+  private byte[] postData;
   private RequestImpl redirectedFrom;
   private RequestImpl redirectedTo;
-  private final RawHeaders headers;
+  private RawHeaders headers;
   private RawHeaders rawHeaders;
   String failure;
   Timing timing;
@@ -59,12 +62,6 @@ public class RequestImpl extends ChannelOwner implements Request {
       redirectedFrom = connection.getExistingObject(initializer.getAsJsonObject("redirectedFrom").get("guid").getAsString());
       redirectedFrom.redirectedTo = this;
     }
-    headers = new RawHeaders(asList(gson().fromJson(initializer.getAsJsonArray("headers"), HttpHeader[].class)));
-    if (initializer.has("postData")) {
-      postData = Base64.getDecoder().decode(initializer.get("postData").getAsString());
-    } else {
-      postData = null;
-    }
   }
 
   @Override
@@ -98,7 +95,7 @@ public class RequestImpl extends ChannelOwner implements Request {
     if (fallbackOverrides != null && fallbackOverrides.headers != null) {
       return new RawHeaders(Utils.toHeadersList(fallbackOverrides.headers)).headers();
     }
-    return headers.headers();
+    return provisionalHeaders().headers();
   }
 
   @Override
@@ -138,6 +135,9 @@ public class RequestImpl extends ChannelOwner implements Request {
     if (fallbackOverrides != null && fallbackOverrides.postData != null) {
       return fallbackOverrides.postData;
     }
+    if (postData == null && initializer.has("postData")) {
+      postData = Base64.getDecoder().decode(initializer.get("postData").getAsString());
+    }
     return postData;
   }
 
@@ -192,6 +192,13 @@ public class RequestImpl extends ChannelOwner implements Request {
     return redirectedTo != null ? redirectedTo.finalRequest() : this;
   }
 
+  private RawHeaders provisionalHeaders() {
+    if (headers == null) {
+      headers = new RawHeaders(asList(gson().fromJson(initializer.getAsJsonArray("headers"), HttpHeader[].class)));
+    }
+    return headers;
+  }
+
   private RawHeaders getRawHeaders() {
     if (fallbackOverrides != null && fallbackOverrides.headers != null) {
       return new RawHeaders(Utils.toHeadersList(fallbackOverrides.headers));
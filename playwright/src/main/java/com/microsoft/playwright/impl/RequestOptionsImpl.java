@@ -34,6 +34,7 @@ public class RequestOptionsImpl implements RequestOptions {
   Double timeout;
   Integer maxRedirects;
   Integer maxRetries;
+  Integer maxBodySize;
 
   @Override
   public RequestOptions setHeader(String name, String value) {
@@ -132,4 +133,10 @@ public class RequestOptionsImpl implements RequestOptions {
     this.maxRetries = maxRetries;
     return this;
   }
+
+  @Override
+  public RequestOptions setMaxBodySize(int maxBodySize) {
+    this.maxBodySize = maxBodySize;
+    return this;
+  }
 }
@@ -18,12 +18,17 @@ package com.microsoft.playwright.impl;
 
 import com.google.gson.JsonObject;
 import com.microsoft.playwright.Frame;
+import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.Response;
 import com.microsoft.playwright.options.HttpHeader;
 import com.microsoft.playwright.options.SecurityDetails;
 import com.microsoft.playwright.options.ServerAddr;
 import com.microsoft.playwright.options.Timing;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.ref.SoftReference;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Base64;
@@ -34,13 +39,18 @@ import static com.microsoft.playwright.impl.Serialization.gson;
 import static java.util.Arrays.asList;
 
 public class ResponseImpl extends ChannelOwner implements Response {
-  private final RawHeaders headers;
+  // Bodies up to this size are cached after the first read, 0 disables caching.
+  static final String BODY_CACHE_LIMIT_PROPERTY = "playwright.response.body.cache.limit";
+  private static final int DEFAULT_BODY_CACHE_LIMIT = 16 * 1024 * 1024;
+
+  private RawHeaders headers;
   private RawHeaders rawHeaders;
   final RequestImpl request;
+  // Soft so that cached bodies are released under memory pressure.
+  private SoftReference<byte[]> cachedBody;
 
   ResponseImpl(ChannelOwner parent, String type, String guid, JsonObject initializer) {
     super(parent, type, guid, initializer);
-    headers = new RawHeaders(asList(gson().fromJson(initializer.getAsJsonArray("headers"), HttpHeader[].class)));
     request = connection.getExistingObject(initializer.getAsJsonObject("request").get("guid").getAsString());
     request.existingResponse = this;
     request.timing = gson().fromJson(initializer.get("timing"), Timing.class);
@@ -51,10 +61,62 @@ public class ResponseImpl extends ChannelOwner implements Response {
     return getRawHeaders().headers();
   }
 
+  // Read when a body is fetched rather than in a static initializer, so that an invalid value
+  // is reported by the call instead of making the class unusable.
+  private static int bodyCacheLimit() {
+    String value = System.getProperty(BODY_CACHE_LIMIT_PROPERTY);
+    if (value == null) {
+      return DEFAULT_BODY_CACHE_LIMIT;
+    }
+    try {
+      int limit = Integer.parseInt(value);
+      if (limit >= 0) {
+        return limit;
+      }
+    } catch (NumberFormatException e) {
+    }
+    throw new PlaywrightException("Invalid " + BODY_CACHE_LIMIT_PROPERTY + " value: " + value);
+  }
+
   @Override
   public byte[] body() {
+    byte[] body = cachedBody();
+    // Callers may modify the returned array, don't hand out the cached one.
+    return isCached(body) ? body.clone() : body;
+  }
+
+  @Override
+  public ByteBuffer bodyBuffer() {
+    return ByteBuffer.wrap(cachedBody()).asReadOnlyBuffer();
+  }
+
+  @Override
+  public InputStream bodyStream() {
+    byte[] body = cachedBody == null ? null : cachedBody.get();
+    if (body != null) {
+      return new ByteArrayInputStream(body);
+    }
+    return Base64.getDecoder().wrap(new AsciiInputStream(fetchBase64Body()));
+  }
+
+  private byte[] cachedBody() {
+    byte[] body = cachedBody == null ? null : cachedBody.get();
+    if (body == null) {
+      body = Base64.getDecoder().decode(fetchBase64Body());
+      if (body.length <= bodyCacheLimit()) {
+        cachedBody = new SoftReference<>(body);
+      }
+    }
+    return body;
+  }
+
+  private boolean isCached(byte[] body) {
+    return cachedBody != null && cachedBody.get() == body;
+  }
+
+  private String fetchBase64Body() {
     JsonObject json = sendMessage("body").getAsJsonObject();
-    return Base64.getDecoder().decode(json.get("binary").getAsString());
+    return json.get("binary").getAsString();
   }
 
   @Override
@@ -95,7 +157,7 @@ public class ResponseImpl extends ChannelOwner implements Response {
 
   @Override
   public Map<String, String> headers() {
-    return headers.headers();
+    return provisionalHeaders().headers();
   }
 
   @Override
@@ -153,7 +215,7 @@ public class ResponseImpl extends ChannelOwner implements Response {
 
   @Override
   public String text() {
-    return new String(body(), StandardCharsets.UTF_8);
+    return new String(cachedBody(), StandardCharsets.UTF_8);
   }
 
   @Override
@@ -161,6 +223,13 @@ public class ResponseImpl extends ChannelOwner implements Response {
     return initializer.get("url").getAsString();
   }
 
+  private RawHeaders provisionalHeaders() {
+    if (headers == null) {
+      headers = new RawHeaders(asList(gson().fromJson(initializer.getAsJsonArray("headers"), HttpHeader[].class)));
+    }
+    return headers;
+  }
+
   private RawHeaders getRawHeaders() {
     if (rawHeaders == null) {
       JsonObject json = sendMessage("rawResponseHeaders").getAsJsonObject();
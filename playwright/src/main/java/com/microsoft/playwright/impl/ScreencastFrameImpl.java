@@ -18,21 +18,29 @@ package com.microsoft.playwright.impl;
 
 import com.microsoft.playwright.ScreencastFrame;
 
+import java.util.Base64;
+
 class ScreencastFrameImpl implements ScreencastFrame {
-  private final byte[] data;
+  // Decoded on first access, consumers that skip frames never pay for it.
+  private String dataBase64;
+  private byte[] data;
   private final double timestamp;
   private final int viewportWidth;
   private final int viewportHeight;
 
-  ScreencastFrameImpl(byte[] data, double timestamp, int viewportWidth, int viewportHeight) {
-    this.data = data;
+  ScreencastFrameImpl(String dataBase64, double timestamp, int viewportWidth, int viewportHeight) {
+    this.dataBase64 = dataBase64;
     this.timestamp = timestamp;
     this.viewportWidth = viewportWidth;
     this.viewportHeight = viewportHeight;
   }
 
   @Override
-  public byte[] data() {
+  public synchronized byte[] data() {
+    if (data == null) {
+      data = Base64.getDecoder().decode(dataBase64);
+      dataBase64 = null;
+    }
     return data;
   }
 
@@ -22,18 +22,60 @@ import com.microsoft.playwright.Screencast;
 import com.microsoft.playwright.ScreencastFrame;
 
 import java.nio.file.Path;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
 import java.util.function.Consumer;
 
 import static com.microsoft.playwright.impl.ChannelOwner.NO_TIMEOUT;
 import static com.microsoft.playwright.impl.Serialization.gson;
 
 class ScreencastImpl implements Screencast {
+  // When set to N > 0, onFrame is called on a separate "Playwright-Screencast" thread
+  // so that a slow consumer doesn't stall message dispatch. At most N frames are
+  // buffered, the oldest ones are dropped when the consumer falls behind.
+  // The callback then runs concurrently with the test thread: it must not call
+  // Playwright APIs, which are not thread-safe, and must synchronize any state it
+  // shares with the test.
+  static final String FRAME_QUEUE_PROPERTY = "playwright.screencast.frameQueue";
+
   private final PageImpl page;
   private boolean started;
   private Path savePath;
   private Consumer<ScreencastFrame> onFrame;
+  private FrameDeliveryThread deliveryThread;
   private ArtifactImpl artifact;
 
+  static class FrameDeliveryThread extends Thread {
+    private final Consumer<ScreencastFrame> onFrame;
+    private final BlockingDeque<ScreencastFrame> frames;
+
+    FrameDeliveryThread(Consumer<ScreencastFrame> onFrame, int capacity) {
+      super("Playwright-Screencast");
+      setDaemon(true);
+      this.onFrame = onFrame;
+      this.frames = new LinkedBlockingDeque<>(capacity);
+    }
+
+    void deliver(ScreencastFrame frame) {
+      while (!frames.offerLast(frame)) {
+        frames.pollFirst();
+      }
+    }
+
+    @Override
+    public void run() {
+      while (!isInterrupted()) {
+        try {
+          onFrame.accept(frames.takeFirst());
+        } catch (InterruptedException e) {
+          break;
+        } catch (RuntimeException e) {
+          e.printStackTrace(System.err);
+        }
+      }
+    }
+  }
+
   ScreencastImpl(PageImpl page) {
     this.page = page;
   }
@@ -43,11 +85,44 @@ class ScreencastImpl implements Screencast {
       return;
     }
     String dataBase64 = params.get("data").getAsString();
-    byte[] data = java.util.Base64.getDecoder().decode(dataBase64);
     double timestamp = params.get("timestamp").getAsDouble();
     int viewportWidth = params.get("viewportWidth").getAsInt();
     int viewportHeight = params.get("viewportHeight").getAsInt();
-    onFrame.accept(new ScreencastFrameImpl(data, timestamp, viewportWidth, viewportHeight));
+    ScreencastFrameImpl frame = new ScreencastFrameImpl(dataBase64, timestamp, viewportWidth, viewportHeight);
+    if (deliveryThread != null) {
+      deliveryThread.deliver(frame);
+    } else {
+      onFrame.accept(frame);
+    }
+  }
+
+  void handlePageClose() {
+    stopDeliveryThread();
+  }
+
+  private void startDeliveryThread() {
+    String capacity = System.getProperty(FRAME_QUEUE_PROPERTY);
+    if (capacity == null) {
+      return;
+    }
+    int size;
+    try {
+      size = Integer.parseInt(capacity);
+    } catch (NumberFormatException e) {
+      throw new PlaywrightException("Invalid " + FRAME_QUEUE_PROPERTY + " value: " + capacity);
+    }
+    if (size <= 0) {
+      return;
+    }
+    deliveryThread = new FrameDeliveryThread(onFrame, size);
+    deliveryThread.start();
+  }
+
+  private void stopDeliveryThread() {
+    if (deliveryThread != null) {
+      deliveryThread.interrupt();
+      deliveryThread = null;
+    }
   }
 
   @Override
@@ -55,23 +130,34 @@ class ScreencastImpl implements Screencast {
     if (started) {
       throw new PlaywrightException("Screencast is already started");
     }
-    started = true;
     JsonObject params = new JsonObject();
-    if (options != null) {
-      if (options.onFrame != null) {
-        onFrame = options.onFrame;
+    JsonObject result;
+    try {
+      if (options != null) {
+        if (options.onFrame != null) {
+          onFrame = options.onFrame;
+        }
+        if (options.quality != null) {
+          params.addProperty("quality", options.quality);
+        }
+        params.addProperty("sendFrames", options.onFrame != null);
+        if (onFrame != null) {
+          startDeliveryThread();
+        }
+        params.addProperty("record", options.path != null);
+        savePath = options.path;
+      } else {
+        params.addProperty("sendFrames", false);
+        params.addProperty("record", false);
       }
-      if (options.quality != null) {
-        params.addProperty("quality", options.quality);
-      }
-      params.addProperty("sendFrames", options.onFrame != null);
-      params.addProperty("record", options.path != null);
-      savePath = options.path;
-    } else {
-      params.addProperty("sendFrames", false);
-      params.addProperty("record", false);
+      result = page.sendMessage("screencastStart", params, NO_TIMEOUT).getAsJsonObject();
+    } catch (RuntimeException e) {
+      onFrame = null;
+      savePath = null;
+      stopDeliveryThread();
+      throw e;
     }
-    JsonObject result = page.sendMessage("screencastStart", params, NO_TIMEOUT).getAsJsonObject();
+    started = true;
     if (result.has("artifact")) {
       String artifactGuid = result.getAsJsonObject("artifact").get("guid").getAsString();
       artifact = page.connection.getExistingObject(artifactGuid);
@@ -83,6 +169,7 @@ class ScreencastImpl implements Screencast {
   public void stop() {
     started = false;
     onFrame = null;
+    stopDeliveryThread();
     page.sendMessage("screencastStop", new JsonObject(), NO_TIMEOUT);
     if (savePath != null && artifact != null) {
       artifact.saveAs(savePath);
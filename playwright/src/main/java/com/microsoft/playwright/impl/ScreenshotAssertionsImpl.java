@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.PlaywrightException;
+import com.microsoft.playwright.assertions.ScreenshotAssertions;
+import org.opentest4j.AssertionFailedError;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+
+public class ScreenshotAssertionsImpl implements ScreenshotAssertions {
+  private final PageImpl actualPage;
+  private final LocatorImpl actualLocator;
+
+  public ScreenshotAssertionsImpl(Page page) {
+    this((PageImpl) page, null);
+  }
+
+  public ScreenshotAssertionsImpl(Locator locator) {
+    this(((LocatorImpl) locator).frame.page(), (LocatorImpl) locator);
+  }
+
+  private ScreenshotAssertionsImpl(PageImpl page, LocatorImpl locator) {
+    this.actualPage = page;
+    this.actualLocator = locator;
+  }
+
+  @Override
+  public void matches(Path baseline, MatchesOptions options) {
+    if (options == null) {
+      options = new MatchesOptions();
+    }
+    JsonObject params = gson().toJsonTree(options).getAsJsonObject();
+    params.remove("timeout");
+    if (actualLocator != null) {
+      params.remove("fullPage");
+      params.add("locator", actualLocator.toProtocol());
+    }
+    // Same defaults as in toHaveScreenshot() in Node.js, they make screenshots reproducible.
+    if (!params.has("animations")) {
+      params.addProperty("animations", "disabled");
+    }
+    if (!params.has("caret")) {
+      params.addProperty("caret", "hide");
+    }
+    if (!params.has("scale")) {
+      params.addProperty("scale", "css");
+    }
+    boolean hasBaseline = Files.exists(baseline);
+    if (hasBaseline) {
+      params.addProperty("expected", Base64.getEncoder().encodeToString(readBaseline(baseline)));
+    }
+    params.addProperty("isNot", false);
+    double timeout = options.timeout == null ? AssertionsTimeout.defaultTimeout : options.timeout;
+    String title = actualLocator == null ? "Assert \"pageScreenshot\"" : "Assert \"locatorScreenshot\"";
+    JsonObject result = actualPage.withTitle(title,
+      () -> actualPage.sendMessage("expectScreenshot", params, timeout)).getAsJsonObject();
+
+    String log = callLog(result);
+    if (!hasBaseline) {
+      if (!result.has("actual")) {
+        throw new AssertionFailedError(errorMessage(result, "Failed to take a stable screenshot") + log);
+      }
+      Utils.writeToFile(decode(result, "actual"), baseline);
+      throw new AssertionFailedError("Baseline " + baseline + " didn't exist, writing actual screenshot." + log);
+    }
+    if (!result.has("errorMessage")) {
+      return;
+    }
+    List<String> lines = new ArrayList<>();
+    lines.add(result.get("errorMessage").getAsString());
+    if (result.has("actual")) {
+      Path actualPath = siblingPath(baseline, "-actual");
+      Utils.writeToFile(decode(result, "actual"), actualPath);
+      lines.add("Actual: " + actualPath);
+    }
+    if (result.has("diff")) {
+      Path diffPath = siblingPath(baseline, "-diff");
+      Utils.writeToFile(decode(result, "diff"), diffPath);
+      lines.add("Diff: " + diffPath);
+    }
+    lines.add("Expected: " + baseline);
+    throw new AssertionFailedError(String.join("\n", lines) + log);
+  }
+
+  private static byte[] readBaseline(Path baseline) {
+    try {
+      return Files.readAllBytes(baseline);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to read baseline " + baseline, e);
+    }
+  }
+
+  private static byte[] decode(JsonObject result, String name) {
+    return Base64.getDecoder().decode(result.get(name).getAsString());
+  }
+
+  private static String errorMessage(JsonObject result, String defaultMessage) {
+    return result.has("errorMessage") ? result.get("errorMessage").getAsString() : defaultMessage;
+  }
+
+  private static String callLog(JsonObject result) {
+    if (!result.has("log")) {
+      return "";
+    }
+    List<String> lines = new ArrayList<>();
+    for (JsonElement line : result.getAsJsonArray("log")) {
+      lines.add(line.getAsString());
+    }
+    if (lines.isEmpty()) {
+      return "";
+    }
+    return "\nCall log:\n" + String.join("\n", lines);
+  }
+
+  private static Path siblingPath(Path baseline, String suffix) {
+    String fileName = baseline.getFileName().toString();
+    int extStart = fileName.lastIndexOf('.');
+    if (extStart == -1) {
+      return baseline.resolveSibling(fileName + suffix);
+    }
+    return baseline.resolveSibling(fileName.substring(0, extStart) + suffix + fileName.substring(extStart));
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.microsoft.playwright.PlaywrightException;
+import org.opentest4j.MultipleFailuresError;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SoftAssertionsImpl {
+  // The assertSoftly block running on this thread, null outside of a block.
+  private static final ThreadLocal<Block> currentBlock = new ThreadLocal<>();
+
+  private static class Block {
+    // Checks of the expect calls that are in flight.
+    final List<Runnable> pendingChecks = new ArrayList<>();
+    final List<Throwable> failures = new ArrayList<>();
+
+    void settle() {
+      // A check may dispatch events whose handlers make calls, take the list first.
+      List<Runnable> checks = new ArrayList<>(pendingChecks);
+      pendingChecks.clear();
+      // All expect calls are already in flight, so the server retries them
+      // concurrently while we wait for each of them in turn.
+      for (Runnable check : checks) {
+        try {
+          check.run();
+        } catch (Throwable e) {
+          failures.add(e);
+        }
+      }
+    }
+  }
+
+  public static void assertSoftly(Runnable assertions) {
+    if (currentBlock.get() != null) {
+      // Nested block, its checks are reported by the outer one.
+      assertions.run();
+      return;
+    }
+    Block block = new Block();
+    Throwable blockFailure = null;
+    currentBlock.set(block);
+    try {
+      assertions.run();
+    } catch (Throwable e) {
+      blockFailure = e;
+    } finally {
+      currentBlock.remove();
+    }
+    block.settle();
+    List<Throwable> failures = block.failures;
+    if (blockFailure != null && !(blockFailure instanceof AssertionError)) {
+      // Not an assertion failure, e.g. an action in the block failed.
+      for (Throwable failure : failures) {
+        blockFailure.addSuppressed(failure);
+      }
+      throw rethrow(blockFailure);
+    }
+    if (blockFailure != null) {
+      // Assertions that don't go through the server fail immediately.
+      failures.add(blockFailure);
+    }
+    if (failures.size() == 1) {
+      throw rethrow(failures.get(0));
+    }
+    if (!failures.isEmpty()) {
+      throw new MultipleFailuresError("Soft assertions", failures);
+    }
+  }
+
+  static boolean defer(Runnable check) {
+    Block block = currentBlock.get();
+    if (block == null) {
+      return false;
+    }
+    block.pendingChecks.add(check);
+    return true;
+  }
+
+  /**
+   * Waits for the assertions made so far in the current block, if any. Called before other
+   * calls to the server, so that an action in the block can't change the outcome of an
+   * assertion made before it.
+   */
+  static void settlePendingChecks() {
+    Block block = currentBlock.get();
+    if (block != null && !block.pendingChecks.isEmpty()) {
+      block.settle();
+    }
+  }
+
+  private static RuntimeException rethrow(Throwable e) {
+    if (e instanceof Error) {
+      throw (Error) e;
+    }
+    if (e instanceof RuntimeException) {
+      return (RuntimeException) e;
+    }
+    return new PlaywrightException(e.getMessage(), e);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Durations of the steps taken by {@code Playwright.create()} in milliseconds, in the order they ran.
+ * Set {@code DEBUG=pw:install} to have them logged as well.
+ * <strong>NOTE:</strong> this class is subject to change.
+ */
+public class StartupTiming {
+  private final Map<String, Long> phases = new LinkedHashMap<>();
+
+  void record(String phase, long startNanos) {
+    phases.put(phase, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+  }
+
+  /**
+   * Phases of the startup: {@code ensureDriverInstalled}, {@code startDriverProcess} and {@code initialize}.
+   * See {@link com.microsoft.playwright.impl.driver.Driver#initializationTimings()} for the breakdown of
+   * the driver installation, which only happens once per JVM.
+   */
+  public Map<String, Long> phases() {
+    return Collections.unmodifiableMap(phases);
+  }
+
+  public long totalMillis() {
+    long total = 0;
+    for (long millis : phases.values()) {
+      total += millis;
+    }
+    return total;
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder result = new StringBuilder();
+    for (Map.Entry<String, Long> phase : phases.entrySet()) {
+      result.append(phase.getKey()).append('=').append(phase.getValue()).append("ms, ");
+    }
+    return result.append("total=").append(totalMillis()).append("ms").toString();
+  }
+}
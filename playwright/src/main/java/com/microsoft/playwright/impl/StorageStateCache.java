@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.PlaywrightException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Keeps a few recently used storage state files in parsed form so that creating many contexts from
+ * the same file neither reads nor parses it again. Entries are keyed by path, modification time and
+ * size, so an edited file is read again. The total size of the cached files is bounded and larger
+ * files are not cached. The parsed objects are shared and must not be modified.
+ */
+class StorageStateCache {
+  private static final int MAX_ENTRIES = 8;
+  private static final long MAX_BYTES = 4 * 1024 * 1024;
+  // A file rewritten with the same size within the file system's timestamp granularity would
+  // look unchanged, so recently modified files are not cached (like git's racily clean entries).
+  private static final long MIN_AGE_MILLIS = 2000;
+  private static final Map<Key, JsonObject> parsed = new LinkedHashMap<>(16, 0.75f, true);
+  private static long parsedBytes;
+
+  private static class Key {
+    final Path path;
+    final FileTime lastModified;
+    final long size;
+
+    Key(Path path, BasicFileAttributes attributes) {
+      this.path = path;
+      this.lastModified = attributes.lastModifiedTime();
+      this.size = attributes.size();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key key = (Key) o;
+      return size == key.size && path.equals(key.path) && lastModified.equals(key.lastModified);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(path, lastModified, size);
+    }
+  }
+
+  static JsonObject fromFile(Path path) {
+    Key key;
+    try {
+      key = new Key(path.toAbsolutePath().normalize(), Files.readAttributes(path, BasicFileAttributes.class));
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to read storage state from file", e);
+    }
+    synchronized (parsed) {
+      JsonObject state = parsed.get(key);
+      if (state != null) {
+        return state;
+      }
+    }
+    String json;
+    try {
+      json = new String(Files.readAllBytes(path), UTF_8);
+    } catch (IOException e) {
+      throw new PlaywrightException("Failed to read storage state from file", e);
+    }
+    JsonObject state = fromString(json);
+    if (key.size <= MAX_BYTES && System.currentTimeMillis() - key.lastModified.toMillis() > MIN_AGE_MILLIS) {
+      synchronized (parsed) {
+        if (parsed.put(key, state) == null) {
+          parsedBytes += key.size;
+        }
+        evict();
+      }
+    }
+    return state;
+  }
+
+  static JsonObject fromString(String json) {
+    return gson().fromJson(json, JsonObject.class);
+  }
+
+  private static void evict() {
+    Iterator<Key> it = parsed.keySet().iterator();
+    while (it.hasNext() && (parsed.size() > MAX_ENTRIES || parsedBytes > MAX_BYTES)) {
+      parsedBytes -= it.next().size;
+      it.remove();
+    }
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Computes and applies the difference between two storage states. Cookies are identified by name,
+ * domain and path, origins by their origin. A delta has the same shape as a storage state with the
+ * added or changed entries, plus "removedCookies" and "removedOrigins" lists:
+ * <pre>
+ * {"cookies": [...], "origins": [...], "removedCookies": [{"name", "domain", "path"}], "removedOrigins": ["https://..."]}
+ * </pre>
+ * Origins in a delta carry local storage only; when applied, the target keeps the IndexedDB contents of changed origins.
+ */
+class StorageStateDelta {
+  static JsonObject diff(JsonObject before, JsonObject after) {
+    Map<String, JsonObject> oldCookies = cookiesByKey(before);
+    Map<String, JsonObject> newCookies = cookiesByKey(after);
+    JsonArray cookies = new JsonArray();
+    for (Map.Entry<String, JsonObject> e : newCookies.entrySet()) {
+      if (!e.getValue().equals(oldCookies.get(e.getKey()))) {
+        cookies.add(e.getValue());
+      }
+    }
+    JsonArray removedCookies = new JsonArray();
+    for (Map.Entry<String, JsonObject> e : oldCookies.entrySet()) {
+      if (!newCookies.containsKey(e.getKey())) {
+        JsonObject cookie = new JsonObject();
+        cookie.add("name", e.getValue().get("name"));
+        cookie.add("domain", e.getValue().get("domain"));
+        cookie.add("path", e.getValue().get("path"));
+        removedCookies.add(cookie);
+      }
+    }
+
+    Map<String, JsonObject> oldOrigins = originsByKey(before);
+    Map<String, JsonObject> newOrigins = originsByKey(after);
+    JsonArray origins = new JsonArray();
+    for (Map.Entry<String, JsonObject> e : newOrigins.entrySet()) {
+      if (!e.getValue().equals(oldOrigins.get(e.getKey()))) {
+        origins.add(e.getValue());
+      }
+    }
+    JsonArray removedOrigins = new JsonArray();
+    for (String origin : oldOrigins.keySet()) {
+      if (!newOrigins.containsKey(origin)) {
+        removedOrigins.add(new JsonPrimitive(origin));
+      }
+    }
+
+    JsonObject delta = new JsonObject();
+    delta.add("cookies", cookies);
+    delta.add("origins", origins);
+    delta.add("removedCookies", removedCookies);
+    delta.add("removedOrigins", removedOrigins);
+    return delta;
+  }
+
+  static JsonObject apply(JsonObject state, JsonObject delta) {
+    Map<String, JsonObject> cookies = cookiesByKey(state);
+    for (JsonElement cookie : array(delta, "removedCookies")) {
+      cookies.remove(cookieKey(cookie.getAsJsonObject()));
+    }
+    for (JsonElement cookie : array(delta, "cookies")) {
+      cookies.put(cookieKey(cookie.getAsJsonObject()), cookie.getAsJsonObject());
+    }
+    Map<String, JsonObject> origins = originsByKey(state);
+    for (JsonElement origin : array(delta, "removedOrigins")) {
+      origins.remove(origin.getAsString());
+    }
+    for (JsonElement element : array(delta, "origins")) {
+      JsonObject origin = element.getAsJsonObject();
+      String key = origin.get("origin").getAsString();
+      JsonObject previous = origins.get(key);
+      // Deltas carry local storage only, keep the IndexedDB contents the target already has.
+      if (previous != null && previous.has("indexedDB") && !origin.has("indexedDB")) {
+        origin = origin.deepCopy();
+        origin.add("indexedDB", previous.get("indexedDB"));
+      }
+      origins.put(key, origin);
+    }
+    JsonObject result = new JsonObject();
+    result.add("cookies", toArray(cookies));
+    result.add("origins", toArray(origins));
+    return result;
+  }
+
+  static boolean hasOriginChanges(JsonObject delta) {
+    return array(delta, "origins").size() > 0 || array(delta, "removedOrigins").size() > 0;
+  }
+
+  static JsonArray array(JsonObject json, String name) {
+    JsonElement value = json.get(name);
+    return value == null || !value.isJsonArray() ? new JsonArray() : value.getAsJsonArray();
+  }
+
+  private static Map<String, JsonObject> cookiesByKey(JsonObject state) {
+    Map<String, JsonObject> result = new LinkedHashMap<>();
+    for (JsonElement cookie : array(state, "cookies")) {
+      result.put(cookieKey(cookie.getAsJsonObject()), cookie.getAsJsonObject());
+    }
+    return result;
+  }
+
+  private static Map<String, JsonObject> originsByKey(JsonObject state) {
+    Map<String, JsonObject> result = new LinkedHashMap<>();
+    for (JsonElement origin : array(state, "origins")) {
+      result.put(origin.getAsJsonObject().get("origin").getAsString(), origin.getAsJsonObject());
+    }
+    return result;
+  }
+
+  private static String cookieKey(JsonObject cookie) {
+    return cookie.get("name").getAsString() + "\u0000" + cookie.get("domain").getAsString() + "\u0000" + cookie.get("path").getAsString();
+  }
+
+  private static JsonArray toArray(Map<String, JsonObject> entries) {
+    JsonArray result = new JsonArray();
+    for (JsonObject entry : entries.values()) {
+      result.add(entry);
+    }
+    return result;
+  }
+}
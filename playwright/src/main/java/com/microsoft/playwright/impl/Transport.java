@@ -20,9 +20,17 @@ import com.google.gson.JsonObject;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Set;
 
 public interface Transport {
   void send(JsonObject message);
   JsonObject poll(Duration timeout);
   void close() throws IOException;
+
+  /**
+   * Tells the transport which CDP events of the session have listeners. The transport may discard the other events
+   * before decoding them. {@code null} means all events are needed.
+   */
+  default void setCDPEventFilter(String sessionGuid, Set<String> methods) {
+  }
 }
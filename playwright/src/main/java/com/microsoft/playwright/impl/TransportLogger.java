@@ -20,6 +20,7 @@ import com.google.gson.JsonObject;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.Set;
 
 import static com.microsoft.playwright.impl.LoggingSupport.logWithTimestamp;
 import static com.microsoft.playwright.impl.Serialization.gson;
@@ -52,4 +53,9 @@ class TransportLogger implements Transport {
   public void close() throws IOException {
     transport.close();
   }
+
+  @Override
+  public void setCDPEventFilter(String sessionGuid, Set<String> methods) {
+    transport.setCDPEventFilter(sessionGuid, methods);
+  }
 }
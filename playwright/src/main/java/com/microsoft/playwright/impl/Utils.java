@@ -18,6 +18,8 @@ package com.microsoft.playwright.impl;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.PlaywrightException;
 import com.microsoft.playwright.options.ClientCertificate;
 import com.microsoft.playwright.options.FilePayload;
@@ -90,6 +92,10 @@ public class Utils {
     return convertType(f, (Class<T>) f.getClass());
   }
 
+  public static BrowserContext newContextForReuse(Browser browser, Browser.NewContextOptions options) {
+    return ((BrowserImpl) browser).newContextForReuse(options);
+  }
+
   static String mimeType(Path path) {
     String mimeType;
     try {
@@ -22,4 +22,12 @@ interface Waitable<T> {
   boolean isDone();
   T get();
   void dispose();
+
+  // Upper bound on how long the dispatcher may block waiting for the next
+  // message before isDone() has to be re-checked. Waitables that can only be
+  // completed by an incoming message never need to be woken up, the dispatcher
+  // still wakes up every 100 ms to check the transport.
+  default long nanosUntilDeadline() {
+    return Long.MAX_VALUE;
+  }
 }
@@ -19,6 +19,9 @@ package com.microsoft.playwright.impl;
 import java.util.function.BooleanSupplier;
 
 class WaitablePredicate<T> implements Waitable<T> {
+  // The predicate is opaque and may depend on anything, so keep re-checking it
+  // periodically even when there are no incoming messages.
+  private static final long POLL_INTERVAL_NANOS = 10_000_000;
   private final BooleanSupplier predicate;
 
   WaitablePredicate(BooleanSupplier predicate) {
@@ -30,6 +33,11 @@ class WaitablePredicate<T> implements Waitable<T> {
     return predicate.getAsBoolean();
   }
 
+  @Override
+  public long nanosUntilDeadline() {
+    return POLL_INTERVAL_NANOS;
+  }
+
   @Override
   public T get() {
     return null;
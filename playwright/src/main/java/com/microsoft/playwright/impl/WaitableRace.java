@@ -40,6 +40,15 @@ class WaitableRace<T> implements Waitable<T> {
     return false;
   }
 
+  @Override
+  public long nanosUntilDeadline() {
+    long result = Long.MAX_VALUE;
+    for (Waitable<T> w : waitables) {
+      result = Math.min(result, w.nanosUntilDeadline());
+    }
+    return result;
+  }
+
   @Override
   public T get() {
     try {
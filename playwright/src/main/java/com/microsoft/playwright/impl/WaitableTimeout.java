@@ -32,6 +32,11 @@ class WaitableTimeout<T> implements Waitable<T> {
     return System.nanoTime() > deadline;
   }
 
+  @Override
+  public long nanosUntilDeadline() {
+    return Math.max(0, deadline - System.nanoTime());
+  }
+
   @Override
   public T get() {
     String timeoutStr = Double.toString(timeout);
@@ -6,24 +6,26 @@ import java.nio.charset.StandardCharsets;
 import java.util.Base64;
 
 class WebSocketFrameImpl implements WebSocketFrame {
+  private final String payload;
+  private final boolean isBase64;
   private byte[] bytes;
-  private String text;
 
   WebSocketFrameImpl(String payload, boolean isBase64) {
-    if (isBase64) {
-      bytes = Base64.getDecoder().decode(payload);
-    } else {
-      text = payload;
-    }
+    this.payload = payload;
+    this.isBase64 = isBase64;
   }
 
   @Override
   public byte[] binary() {
+    // Decoded on first access, most frames are only looked at as text or not at all.
+    if (isBase64 && bytes == null) {
+      bytes = Base64.getDecoder().decode(payload);
+    }
     return bytes;
   }
 
   @Override
   public String text() {
-    return text;
+    return isBase64 ? null : payload;
   }
 }
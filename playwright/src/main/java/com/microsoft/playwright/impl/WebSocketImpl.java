@@ -153,6 +153,9 @@ class WebSocketImpl extends ChannelOwner implements WebSocket {
   void handleEvent(String event, JsonObject parameters) {
     switch (event) {
       case "frameSent": {
+        if (!listeners.hasListeners(EventType.FRAMESENT)) {
+          break;
+        }
         int opCode = parameters.get("opcode").getAsInt();
         if (opCode != 1 && opCode != 2) {
           break;
@@ -163,6 +166,9 @@ class WebSocketImpl extends ChannelOwner implements WebSocket {
         break;
       }
       case "frameReceived": {
+        if (!listeners.hasListeners(EventType.FRAMERECEIVED)) {
+          break;
+        }
         int opCode = parameters.get("opcode").getAsInt();
         if (opCode != 1 && opCode != 2) {
           break;
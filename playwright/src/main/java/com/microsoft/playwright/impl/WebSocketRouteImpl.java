@@ -49,19 +49,22 @@ class WebSocketRouteImpl extends ChannelOwner implements WebSocketRoute {
 
     @Override
     public void send(String message) {
-      JsonObject params = new JsonObject();
-      params.addProperty("message", message);
-      params.addProperty("isBase64", false);
-      sendMessageAsync("sendToServer", params);
+      sendMessageAsync("sendToServer", messageParams(message, false));
     }
 
     @Override
     public void send(byte[] message) {
-      JsonObject params = new JsonObject();
-      String base64 = Base64.getEncoder().encodeToString(message);
-      params.addProperty("message", base64);
-      params.addProperty("isBase64", true);
-      sendMessageAsync("sendToServer", params);
+      sendMessageAsync("sendToServer", messageParams(Base64.getEncoder().encodeToString(message), true));
+    }
+
+    @Override
+    public void sendAll(List<String> messages) {
+      sendAllImpl("sendToServer", messages, false);
+    }
+
+    @Override
+    public void sendAllBinary(List<byte[]> messages) {
+      sendAllImpl("sendToServer", encodeAll(messages), true);
     }
 
     @Override
@@ -111,19 +114,46 @@ class WebSocketRouteImpl extends ChannelOwner implements WebSocketRoute {
 
   @Override
   public void send(String message) {
-    JsonObject params = new JsonObject();
-    params.addProperty("message", message);
-    params.addProperty("isBase64", false);
-    sendMessageAsync("sendToPage", params);
+    sendMessageAsync("sendToPage", messageParams(message, false));
   }
 
   @Override
   public void send(byte[] message) {
+    sendMessageAsync("sendToPage", messageParams(Base64.getEncoder().encodeToString(message), true));
+  }
+
+  @Override
+  public void sendAll(List<String> messages) {
+    sendAllImpl("sendToPage", messages, false);
+  }
+
+  @Override
+  public void sendAllBinary(List<byte[]> messages) {
+    sendAllImpl("sendToPage", encodeAll(messages), true);
+  }
+
+  // All messages belong to one API call, only the first one carries the call stack.
+  private void sendAllImpl(String method, List<String> messages, boolean isBase64) {
+    withTitle("WebSocketRoute.sendAll", () -> {
+      for (String message : messages) {
+        sendMessageAsync(method, messageParams(message, isBase64));
+      }
+    });
+  }
+
+  private static List<String> encodeAll(List<byte[]> messages) {
+    List<String> result = new ArrayList<>(messages.size());
+    for (byte[] message : messages) {
+      result.add(Base64.getEncoder().encodeToString(message));
+    }
+    return result;
+  }
+
+  private static JsonObject messageParams(String message, boolean isBase64) {
     JsonObject params = new JsonObject();
-    String base64 = Base64.getEncoder().encodeToString(message);
-    params.addProperty("message", base64);
-    params.addProperty("isBase64", true);
-    sendMessageAsync("sendToPage", params);
+    params.addProperty("message", message);
+    params.addProperty("isBase64", isBase64);
+    return params;
   }
 
   @Override
@@ -167,10 +197,8 @@ class WebSocketRouteImpl extends ChannelOwner implements WebSocketRoute {
       if (onPageMessage != null) {
         onPageMessage.accept(new WebSocketFrameImpl(message, isBase64));
       } else if (connected) {
-        JsonObject messageParams = new JsonObject();
-        messageParams.addProperty("message", message);
-        messageParams.addProperty("isBase64", isBase64);
-        sendMessageAsync("sendToServer", messageParams);
+        // Forwarded as is, the message is not decoded.
+        sendInternalMessageAsync("sendToServer", messageParams(message, isBase64));
       }
     } else if ("messageFromServer".equals(event)) {
       String message = params.get("message").getAsString();
@@ -178,10 +206,7 @@ class WebSocketRouteImpl extends ChannelOwner implements WebSocketRoute {
       if (onServerMessage != null) {
         onServerMessage.accept(new WebSocketFrameImpl(message, isBase64));
       } else {
-        JsonObject messageParams = new JsonObject();
-        messageParams.addProperty("message", message);
-        messageParams.addProperty("isBase64", isBase64);
-        sendMessageAsync("sendToPage", messageParams);
+        sendInternalMessageAsync("sendToPage", messageParams(message, isBase64));
       }
     } else if ("closePage".equals(event)) {
       Integer code = params.has("code") ? params.get("code").getAsInt() : null;
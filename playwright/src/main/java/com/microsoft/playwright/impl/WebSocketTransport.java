@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.PlaywrightException;
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static com.microsoft.playwright.impl.Serialization.gson;
+
+/**
+ * Talks to a remote Playwright server directly instead of relaying every message through the
+ * local driver. Requires org.java-websocket:Java-WebSocket on the classpath, connections go
+ * through the driver when it is missing.
+ */
+class WebSocketTransport implements Transport {
+  static final String DIRECT_CONNECT_PROPERTY = "playwright.connect.direct";
+  private static final JsonObject EOF = new JsonObject();
+  private static volatile boolean didWarnMissingLibrary;
+
+  private final BlockingQueue<JsonObject> incoming = new LinkedBlockingQueue<>();
+  private final List<Runnable> closeHandlers = new ArrayList<>();
+  private final Client client;
+  private volatile boolean isClosed;
+  private volatile String closeReason = "Browser has been closed";
+  private volatile Exception lastError;
+  private boolean didNotifyClose;
+
+  static boolean isEnabled() {
+    if (!Boolean.parseBoolean(System.getProperty(DIRECT_CONNECT_PROPERTY))) {
+      return false;
+    }
+    try {
+      Class.forName("org.java_websocket.client.WebSocketClient");
+      return true;
+    } catch (ClassNotFoundException e) {
+      if (!didWarnMissingLibrary) {
+        didWarnMissingLibrary = true;
+        LoggingSupport.logWithTimestamp("WARNING: " + DIRECT_CONNECT_PROPERTY + " is set but org.java-websocket:Java-WebSocket " +
+          "is not on the classpath, connecting through the driver");
+      }
+      return false;
+    }
+  }
+
+  static WebSocketTransport connect(String endpoint, Map<String, String> headers, double timeout) {
+    long startNanos = System.nanoTime();
+    String wsEndpoint = toWebSocketEndpoint(endpoint, timeout);
+    if (timeout != 0) {
+      timeout = Math.max(1, timeout - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+    WebSocketTransport transport;
+    try {
+      transport = new WebSocketTransport(new URI(wsEndpoint), headers);
+    } catch (URISyntaxException e) {
+      throw new PlaywrightException("Invalid WebSocket endpoint: " + wsEndpoint, e);
+    }
+    transport.connect(timeout);
+    return transport;
+  }
+
+  // Same as the driver: an http(s) endpoint serves the path of the WebSocket endpoint at /json.
+  private static String toWebSocketEndpoint(String endpoint, double timeout) {
+    if (endpoint.startsWith("ws")) {
+      return endpoint;
+    }
+    try {
+      URI uri = new URI(endpoint);
+      String path = uri.getPath() == null || uri.getPath().isEmpty() ? "/" : uri.getPath();
+      if (!path.endsWith("/")) {
+        path += "/";
+      }
+      URL jsonUrl = new URI(uri.getScheme(), uri.getAuthority(), path + "json", null, null).toURL();
+      HttpURLConnection request = (HttpURLConnection) jsonUrl.openConnection();
+      request.setConnectTimeout((int) timeout);
+      request.setReadTimeout((int) timeout);
+      JsonObject json;
+      try (Reader reader = new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8)) {
+        json = gson().fromJson(reader, JsonObject.class);
+      } finally {
+        request.disconnect();
+      }
+      String wsEndpointPath = json.get("wsEndpointPath").getAsString();
+      if (wsEndpointPath.startsWith("/")) {
+        wsEndpointPath = wsEndpointPath.substring(1);
+      }
+      String scheme = "https".equals(uri.getScheme()) ? "wss" : "ws";
+      return new URI(scheme, uri.getAuthority(), path + wsEndpointPath, null, null).toString();
+    } catch (IOException | URISyntaxException | RuntimeException e) {
+      throw new PlaywrightException("Failed to retrieve WebSocket endpoint from " + endpoint, e);
+    }
+  }
+
+  private WebSocketTransport(URI uri, Map<String, String> headers) {
+    client = new Client(uri, headers);
+    // Like the driver pipe threads, these must not keep the JVM alive.
+    client.setDaemon(true);
+  }
+
+  private void connect(double timeout) {
+    boolean connected;
+    try {
+      if (timeout == 0) {
+        connected = client.connectBlocking();
+      } else {
+        connected = client.connectBlocking((long) timeout, TimeUnit.MILLISECONDS);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PlaywrightException("Operation interrupted", e);
+    }
+    if (!connected) {
+      client.close();
+      String message = "Failed to connect to " + client.getURI();
+      if (lastError != null) {
+        throw new PlaywrightException(message + ": " + lastError.getMessage(), lastError);
+      }
+      throw new PlaywrightException(message + (isClosed ? ": " + closeReason : ", timed out after " + timeout + "ms"));
+    }
+  }
+
+  // Handlers run on the thread that polls the connection.
+  void onClose(Runnable handler) {
+    closeHandlers.add(handler);
+  }
+
+  void offClose(Runnable handler) {
+    closeHandlers.remove(handler);
+  }
+
+  @Override
+  public void send(JsonObject message) {
+    checkIfClosed();
+    String text = gson().toJson(message);
+    client.send(LazyFileContent.hasPlaceholders(text) ? LazyFileContent.expand(text) : text);
+  }
+
+  @Override
+  public JsonObject poll(Duration timeout) {
+    JsonObject message = incoming.poll();
+    if (message == null && !isClosed) {
+      try {
+        message = incoming.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+      } catch (InterruptedException e) {
+        throw new PlaywrightException("Failed to read message from the server", e);
+      }
+    }
+    if (message != null && message != EOF) {
+      return message;
+    }
+    if (isClosed && incoming.isEmpty()) {
+      if (!didNotifyClose) {
+        notifyClose();
+        return null;
+      }
+      checkIfClosed();
+    }
+    return null;
+  }
+
+  private void notifyClose() {
+    didNotifyClose = true;
+    for (Runnable handler : new ArrayList<>(closeHandlers)) {
+      handler.run();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (isClosed) {
+      return;
+    }
+    try {
+      client.closeBlocking();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PlaywrightException("Operation interrupted", e);
+    }
+    // Nobody polls a closed connection, let the listeners know right away.
+    if (!didNotifyClose) {
+      notifyClose();
+    }
+  }
+
+  private void checkIfClosed() {
+    if (isClosed) {
+      throw new PlaywrightException(closeReason);
+    }
+  }
+
+  private class Client extends WebSocketClient {
+    Client(URI serverUri, Map<String, String> headers) {
+      super(serverUri, headers);
+    }
+
+    @Override
+    public void onOpen(ServerHandshake handshake) {
+    }
+
+    @Override
+    public void onMessage(String message) {
+      incoming.add(gson().fromJson(message, JsonObject.class));
+    }
+
+    @Override
+    public void onClose(int code, String reason, boolean remote) {
+      if (reason != null && !reason.trim().isEmpty()) {
+        closeReason = reason;
+      }
+      isClosed = true;
+      incoming.add(EOF);
+    }
+
+    @Override
+    public void onError(Exception e) {
+      lastError = e;
+    }
+  }
+}
@@ -60,7 +60,11 @@ public class BrowserContextExtension implements ParameterResolver, TestWatcher {
     setTestIdAttribute(playwright, options);
     Browser browser = BrowserExtension.getOrCreateBrowser(extensionContext);
     Browser.NewContextOptions contextOptions = getContextOptions(playwright, options);
-    browserContext = browser.newContext(contextOptions);
+    if (shouldReuseContext(options)) {
+      browserContext = Utils.newContextForReuse(browser, contextOptions);
+    } else {
+      browserContext = browser.newContext(contextOptions);
+    }
     if (shouldRecordTrace(options)) {
       Tracing.StartOptions startOptions = new Tracing.StartOptions().setSnapshots(true).setScreenshots(true).setTitle(extensionContext.getDisplayName());
       if (System.getenv("PLAYWRIGHT_JAVA_SRC") != null) {
@@ -74,30 +78,34 @@ public class BrowserContextExtension implements ParameterResolver, TestWatcher {
 
   @Override
   public void testSuccessful(ExtensionContext extensionContext) {
-    saveTraceWhenOn(extensionContext);
-    closeBrowserContext();
+    boolean traceSaved = saveTraceWhenOn(extensionContext);
+    closeBrowserContext(extensionContext, traceSaved);
   }
 
   @Override
   public void testAborted(ExtensionContext extensionContext, Throwable cause) {
-    saveTraceWhenOn(extensionContext);
-    closeBrowserContext();
+    boolean traceSaved = saveTraceWhenOn(extensionContext);
+    closeBrowserContext(extensionContext, traceSaved);
   }
 
   @Override
   public void testFailed(ExtensionContext extensionContext, Throwable cause) {
     Options options = OptionsExtension.getOptions(extensionContext);
+    boolean traceSaved = false;
     if (shouldRecordTrace(options)) {
       saveTrace(extensionContext);
+      traceSaved = true;
     }
-    closeBrowserContext();
+    closeBrowserContext(extensionContext, traceSaved);
   }
 
-  private static void saveTraceWhenOn(ExtensionContext extensionContext) {
+  private static boolean saveTraceWhenOn(ExtensionContext extensionContext) {
     Options options = OptionsExtension.getOptions(extensionContext);
     if (options.trace.equals(Options.Trace.ON)) {
       saveTrace(extensionContext);
+      return true;
     }
+    return false;
   }
 
   private static void saveTrace(ExtensionContext extensionContext) {
@@ -139,15 +147,28 @@ public class BrowserContextExtension implements ParameterResolver, TestWatcher {
     return outputPath;
   }
 
-  private void closeBrowserContext() {
+  private void closeBrowserContext(ExtensionContext extensionContext, boolean traceSaved) {
     cleanUpPage();
     BrowserContext browserContext = threadLocalBrowserContext.get();
     threadLocalBrowserContext.remove();
-    if (browserContext != null) {
+    if (browserContext == null) {
+      return;
+    }
+    Options options = OptionsExtension.getOptions(extensionContext);
+    if (!shouldReuseContext(options)) {
       browserContext.close();
+      return;
+    }
+    // The context will be reset by the next test, just make sure the trace does not leak into it.
+    if (shouldRecordTrace(options) && !traceSaved) {
+      browserContext.tracing().stop();
     }
   }
 
+  static boolean shouldReuseContext(Options options) {
+    return Boolean.TRUE.equals(options.reuseContext);
+  }
+
   private static boolean shouldRecordTrace(Options options) {
     return options.trace.equals(Options.Trace.ON) || options.trace.equals(Options.Trace.RETAIN_ON_FAILURE);
   }
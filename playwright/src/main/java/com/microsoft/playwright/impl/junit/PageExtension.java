@@ -18,6 +18,7 @@ package com.microsoft.playwright.impl.junit;
 
 import com.microsoft.playwright.BrowserContext;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.junit.Options;
 import org.junit.jupiter.api.extension.*;
 
 import static com.microsoft.playwright.impl.junit.ExtensionUtils.*;
@@ -49,7 +50,13 @@ public class PageExtension implements ParameterResolver {
     }
 
     BrowserContext browserContext = BrowserContextExtension.getOrCreateBrowserContext(extensionContext);
-    page = browserContext.newPage();
+    // A reused context keeps its first page around, navigated to about:blank.
+    Options options = OptionsExtension.getOptions(extensionContext);
+    if (BrowserContextExtension.shouldReuseContext(options) && !browserContext.pages().isEmpty()) {
+      page = browserContext.pages().get(0);
+    } else {
+      page = browserContext.newPage();
+    }
     threadLocalPage.set(page);
     return page;
   }
@@ -50,6 +50,9 @@ public class Options {
   public Path outputDir;
   // When to record traces.  Default is OFF.
   public Trace trace = Trace.OFF;
+  // Keep one browser context per worker thread and reset its state between tests instead of
+  // creating a new context for each test. Default is false.
+  public Boolean reuseContext;
 
   public enum Trace {
     OFF,
@@ -62,6 +65,11 @@ public class Options {
     return this;
   }
 
+  public Options setReuseContext(Boolean reuseContext) {
+    this.reuseContext = reuseContext;
+    return this;
+  }
+
   public Options setOutputDir(Path outputDir) {
     this.outputDir = outputDir;
     return this;
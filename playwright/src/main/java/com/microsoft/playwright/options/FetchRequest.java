@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+/**
+ * A request to be sent by {@link com.microsoft.playwright.APIRequestContext#fetchAll APIRequestContext.fetchAll()}.
+ */
+public class FetchRequest {
+  /**
+   * Target URL.
+   */
+  public String url;
+  /**
+   * Optional request parameters.
+   */
+  public RequestOptions options;
+
+  public FetchRequest(String url) {
+    this(url, null);
+  }
+
+  public FetchRequest(String url, RequestOptions options) {
+    this.url = url;
+    this.options = options;
+  }
+}
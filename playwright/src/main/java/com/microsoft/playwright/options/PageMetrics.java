@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+import java.util.List;
+
+/**
+ * Performance metrics of the page, see {@link com.microsoft.playwright.Page#metrics Page.metrics()}. Times are in
+ * milliseconds relative to the start of the navigation. Values the browser doesn't report are {@code null}.
+ */
+public class PageMetrics {
+  public static class Resource {
+    /**
+     * Resource URL.
+     */
+    public String name;
+    /**
+     * Type of the element or API that started the request, e.g. {@code "script"} or {@code "fetch"}.
+     */
+    public String initiatorType;
+    public double startTime;
+    public double duration;
+    /**
+     * Bytes fetched over the network, {@code 0} for cached or cross-origin resources.
+     */
+    public Long transferSize;
+  }
+
+  /**
+   * URL of the document.
+   */
+  public String url;
+  /**
+   * Time when the first byte of the document response was received.
+   */
+  public Double timeToFirstByte;
+  /**
+   * Time when the {@code DOMContentLoaded} event handlers completed.
+   */
+  public Double domContentLoaded;
+  /**
+   * Time when the {@code load} event handlers completed.
+   */
+  public Double load;
+  public Double firstPaint;
+  public Double firstContentfulPaint;
+  /**
+   * Only collected after {@link com.microsoft.playwright.Page#startMetrics Page.startMetrics()}.
+   */
+  public Double largestContentfulPaint;
+  /**
+   * Only collected after {@link com.microsoft.playwright.Page#startMetrics Page.startMetrics()}.
+   */
+  public Double cumulativeLayoutShift;
+  /**
+   * Number of tasks longer than 50ms. Only collected after {@link com.microsoft.playwright.Page#startMetrics
+   * Page.startMetrics()}.
+   */
+  public Integer longTaskCount;
+  /**
+   * Total duration of the long tasks. Only collected after {@link com.microsoft.playwright.Page#startMetrics
+   * Page.startMetrics()}.
+   */
+  public Double longTaskDuration;
+  /**
+   * Used JavaScript heap size in bytes, Chromium only.
+   */
+  public Long jsHeapUsedSize;
+  /**
+   * Total JavaScript heap size in bytes, Chromium only.
+   */
+  public Long jsHeapTotalSize;
+  /**
+   * Timings of the resources loaded by the document.
+   */
+  public List<Resource> resources;
+}
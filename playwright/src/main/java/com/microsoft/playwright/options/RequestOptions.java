@@ -190,5 +190,12 @@ public interface RequestOptions {
    * @since v1.18
    */
   RequestOptions setTimeout(double timeout);
+  /**
+   * Sets the maximum size of the response body.
+   *
+   * @param maxBodySize Maximum response body size in bytes. If the response is larger, it is disposed and an error is thrown.
+   * Defaults to no limit.
+   */
+  RequestOptions setMaxBodySize(int maxBodySize);
 }
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+/**
+ * Limits on the response bodies kept alive by an {@link com.microsoft.playwright.APIRequestContext APIRequestContext}, see
+ * {@link com.microsoft.playwright.APIRequestContext#setResponseRetention APIRequestContext.setResponseRetention()}.
+ */
+public class ResponseRetention {
+  /**
+   * Maximum number of responses whose bodies are retained. When exceeded, the least recently used response is disposed.
+   */
+  public Integer maxResponses;
+  /**
+   * Maximum total size of the retained bodies in bytes. When exceeded, the least recently used responses are disposed. The
+   * size of a body is known from its {@code Content-Length} header or once it has been read, bodies of unknown size are only
+   * counted once they have been read.
+   */
+  public Long maxBytes;
+  /**
+   * Whether to dispose the response as soon as its body has been read. Defaults to {@code false}.
+   */
+  public Boolean disposeOnRead;
+
+  /**
+   * Maximum number of responses whose bodies are retained. When exceeded, the least recently used response is disposed.
+   */
+  public ResponseRetention setMaxResponses(int maxResponses) {
+    this.maxResponses = maxResponses;
+    return this;
+  }
+  /**
+   * Maximum total size of the retained bodies in bytes. When exceeded, the least recently used responses are disposed. The
+   * size of a body is known from its {@code Content-Length} header or once it has been read, bodies of unknown size are only
+   * counted once they have been read.
+   */
+  public ResponseRetention setMaxBytes(long maxBytes) {
+    this.maxBytes = maxBytes;
+    return this;
+  }
+  /**
+   * Whether to dispose the response as soon as its body has been read. Defaults to {@code false}.
+   */
+  public ResponseRetention setDisposeOnRead(boolean disposeOnRead) {
+    this.disposeOnRead = disposeOnRead;
+    return this;
+  }
+}
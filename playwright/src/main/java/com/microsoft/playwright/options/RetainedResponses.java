@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.options;
+
+/**
+ * Counters for the response bodies kept alive by an {@link com.microsoft.playwright.APIRequestContext APIRequestContext},
+ * see {@link com.microsoft.playwright.APIRequestContext#retainedResponses APIRequestContext.retainedResponses()}.
+ */
+public class RetainedResponses {
+  /**
+   * Number of tracked responses that have not been disposed.
+   */
+  public final int count;
+  /**
+   * Total size in bytes of the retained bodies that have been read.
+   */
+  public final long bytes;
+  /**
+   * Number of responses disposed by the retention policy since the context was created.
+   */
+  public final long autoDisposed;
+
+  public RetainedResponses(int count, long bytes, long autoDisposed) {
+    this.count = count;
+    this.bytes = bytes;
+    this.autoDisposed = autoDisposed;
+  }
+}
@@ -176,6 +176,24 @@ public class TestBrowserContextCDPSession extends TestBase {
       requestEvent.getAsJsonObject("params").getAsJsonObject("request").get("url").getAsString());
   }
 
+  @Test
+  void shouldReceiveEventsAfterResubscribing() {
+    CDPSession cdpSession = page.context().newCDPSession(page);
+    cdpSession.send("Network.enable");
+
+    List<String> urls = new ArrayList<>();
+    Consumer<JsonObject> listener = jsonObject -> urls.add(jsonObject.getAsJsonObject("request").get("url").getAsString());
+    cdpSession.on("Network.requestWillBeSent", listener);
+    cdpSession.off("Network.requestWillBeSent", listener);
+    page.navigate(server.EMPTY_PAGE);
+    assertTrue(urls.isEmpty());
+
+    cdpSession.on("Network.requestWillBeSent", listener);
+    page.navigate(server.PREFIX + "/title.html");
+    assertTrue(urls.contains(server.PREFIX + "/title.html"), urls.toString());
+    assertFalse(urls.contains(server.EMPTY_PAGE), urls.toString());
+  }
+
   @Test
   void shouldRemoveEventListeners() {
     CDPSession cdpSession = page.context().newCDPSession(page);
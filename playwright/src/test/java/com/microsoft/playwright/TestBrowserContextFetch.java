@@ -18,14 +18,21 @@ package com.microsoft.playwright;
 
 import com.google.gson.Gson;
 import com.microsoft.playwright.options.*;
+import com.sun.net.httpserver.HttpExchange;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.text.ParseException;
 import java.time.LocalDate;
@@ -35,6 +42,7 @@ import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
 
 import static com.microsoft.playwright.Utils.mapOf;
 import static java.util.Arrays.asList;
@@ -70,6 +78,196 @@ public class TestBrowserContextFetch extends TestBase {
     assertEquals("{\"foo\": \"bar\"}\n", response.text());
   }
 
+  @Test
+  void shouldSaveBodyToFile(@TempDir Path tmpDir) throws IOException {
+    APIResponse response = context.request().get(server.PREFIX + "/simple.json");
+    Path path = tmpDir.resolve("nested").resolve("simple.json");
+    response.saveAs(path);
+    assertArrayEquals(response.body(), Files.readAllBytes(path));
+  }
+
+  @Test
+  void shouldReadBodyAsStream() throws IOException {
+    APIResponse response = context.request().get(server.PREFIX + "/simple.json");
+    try (InputStream stream = response.bodyStream()) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[3];
+      for (int read = stream.read(buffer); read != -1; read = stream.read(buffer)) {
+        out.write(buffer, 0, read);
+      }
+      assertEquals("{\"foo\": \"bar\"}\n", new String(out.toByteArray(), StandardCharsets.UTF_8));
+    }
+  }
+
+  @Test
+  void shouldRejectBodyLargerThanMaxBodySize() {
+    server.setRoute("/large", exchange -> {
+      exchange.sendResponseHeaders(200, 1000);
+      try (OutputStreamWriter writer = new OutputStreamWriter(exchange.getResponseBody())) {
+        writer.write(new String(new char[1000]).replace('\0', 'a'));
+      }
+    });
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> context.request().get(server.PREFIX + "/large",
+      RequestOptions.create().setMaxBodySize(100)));
+    assertTrue(e.getMessage().contains("exceeds maxBodySize"), e.getMessage());
+    APIResponse response = context.request().get(server.PREFIX + "/large", RequestOptions.create().setMaxBodySize(1000));
+    assertEquals(1000, response.body().length);
+  }
+
+  @Test
+  void shouldCheckDecodedBodySizeForEncodedResponses() {
+    // Gzip makes such a short body longer, so the Content-Length exceeds the limit but the body doesn't.
+    server.setRoute("/gzip", exchange -> {
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+        gzip.write("0123456789".getBytes(StandardCharsets.UTF_8));
+      }
+      exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+      exchange.sendResponseHeaders(200, compressed.size());
+      try (OutputStream out = exchange.getResponseBody()) {
+        compressed.writeTo(out);
+      }
+    });
+    APIResponse response = context.request().get(server.PREFIX + "/gzip", RequestOptions.create().setMaxBodySize(20));
+    assertEquals("0123456789", response.text());
+    response = context.request().get(server.PREFIX + "/gzip", RequestOptions.create().setMaxBodySize(5));
+    PlaywrightException e = assertThrows(PlaywrightException.class, response::body);
+    assertTrue(e.getMessage().contains("exceeds maxBodySize"), e.getMessage());
+  }
+
+  @Test
+  void fetchAllShouldReturnResponsesInOrder() {
+    List<FetchRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      requests.add(new FetchRequest(server.PREFIX + "/echo", RequestOptions.create().setMethod("POST").setData("body" + i)));
+    }
+    server.setRoute("/echo", exchange -> {
+      exchange.sendResponseHeaders(200, 0);
+      try (OutputStream out = exchange.getResponseBody()) {
+        Utils.copy(exchange.getRequestBody(), out);
+      }
+    });
+    List<APIResponse> responses = context.request().fetchAll(requests, 3);
+    assertEquals(10, responses.size());
+    for (int i = 0; i < 10; i++) {
+      assertEquals("body" + i, responses.get(i).text());
+    }
+  }
+
+  @Test
+  void fetchAllShouldKeepMaxConcurrencyRequestsInFlight() {
+    int maxConcurrency = 3;
+    List<HttpExchange> held = new ArrayList<>();
+    int[] maxHeld = {0};
+    // Responds only once maxConcurrency requests are waiting, so the requests must overlap to complete.
+    server.setRoute("/held", exchange -> {
+      held.add(exchange);
+      maxHeld[0] = Math.max(maxHeld[0], held.size());
+      if (held.size() < maxConcurrency) {
+        return;
+      }
+      for (HttpExchange e : held) {
+        e.sendResponseHeaders(200, 0);
+        try (Writer writer = new OutputStreamWriter(e.getResponseBody())) {
+          writer.write("done");
+        }
+      }
+      held.clear();
+    });
+    List<FetchRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 2 * maxConcurrency; i++) {
+      requests.add(new FetchRequest(server.PREFIX + "/held"));
+    }
+    List<APIResponse> responses = context.request().fetchAll(requests, maxConcurrency);
+    assertEquals(2 * maxConcurrency, responses.size());
+    for (APIResponse response : responses) {
+      assertEquals("done", response.text());
+    }
+    assertEquals(maxConcurrency, maxHeld[0]);
+  }
+
+  @Test
+  void fetchAllShouldThrowIfAnyRequestFails() {
+    server.setRoute("/test", exchange -> exchange.getResponseBody().close());
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> context.request().fetchAll(asList(
+      new FetchRequest(server.EMPTY_PAGE), new FetchRequest(server.PREFIX + "/test"))));
+    assertTrue(e.getMessage().contains("socket hang up"), e.getMessage());
+  }
+
+  @Test
+  void fetchAllShouldValidateAllOptionsBeforeSending() {
+    int[] requestCount = {0};
+    server.setRoute("/counted", exchange -> {
+      requestCount[0]++;
+      exchange.sendResponseHeaders(200, -1);
+      exchange.getResponseBody().close();
+    });
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> context.request().fetchAll(asList(
+      new FetchRequest(server.PREFIX + "/counted"),
+      new FetchRequest(server.PREFIX + "/counted", RequestOptions.create().setMaxRetries(-1)))));
+    assertTrue(e.getMessage().contains("'maxRetries' must be greater than or equal to '0'"), e.getMessage());
+    assertEquals(200, context.request().get(server.PREFIX + "/counted").status());
+    assertEquals(1, requestCount[0]);
+  }
+
+  @Test
+  void shouldDisposeLeastRecentlyUsedResponses() {
+    context.request().setResponseRetention(new ResponseRetention().setMaxResponses(2));
+    APIResponse response1 = context.request().get(server.PREFIX + "/simple.json");
+    APIResponse response2 = context.request().get(server.PREFIX + "/simple.json");
+    assertEquals("{\"foo\": \"bar\"}\n", response1.text());
+    APIResponse response3 = context.request().get(server.PREFIX + "/simple.json");
+    RetainedResponses retained = context.request().retainedResponses();
+    assertEquals(2, retained.count);
+    assertEquals(1, retained.autoDisposed);
+    assertEquals("{\"foo\": \"bar\"}\n", response1.text());
+    assertEquals("{\"foo\": \"bar\"}\n", response3.text());
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> response2.body());
+    assertTrue(e.getMessage().contains("Response has been disposed"), e.getMessage());
+  }
+
+  @Test
+  void shouldDisposeResponseOnRead() {
+    context.request().setResponseRetention(new ResponseRetention().setDisposeOnRead(true));
+    APIResponse response = context.request().get(server.PREFIX + "/simple.json");
+    assertEquals(1, context.request().retainedResponses().count);
+    assertEquals("{\"foo\": \"bar\"}\n", response.text());
+    assertEquals(0, context.request().retainedResponses().count);
+    assertEquals(1, context.request().retainedResponses().autoDisposed);
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> response.body());
+    assertTrue(e.getMessage().contains("Response has been disposed"), e.getMessage());
+  }
+
+  @Test
+  void shouldCountRetainedResponseBytes() {
+    context.request().get(server.PREFIX + "/simple.json");
+    assertEquals(0, context.request().retainedResponses().count, "Responses are not tracked without a policy");
+    context.request().setResponseRetention(new ResponseRetention().setMaxBytes(1_000_000));
+    APIResponse response = context.request().get(server.PREFIX + "/simple.json");
+    RetainedResponses retained = context.request().retainedResponses();
+    assertEquals(1, retained.count);
+    assertEquals(15, retained.bytes, "Size is taken from Content-Length before the body is read");
+    assertEquals(response.body().length, context.request().retainedResponses().bytes);
+    response.dispose();
+    retained = context.request().retainedResponses();
+    assertEquals(0, retained.count);
+    assertEquals(0, retained.bytes);
+  }
+
+  @Test
+  void shouldDisposeUnreadResponsesOverMaxBytes() {
+    context.request().setResponseRetention(new ResponseRetention().setMaxBytes(20));
+    APIResponse response1 = context.request().get(server.PREFIX + "/simple.json");
+    APIResponse response2 = context.request().get(server.PREFIX + "/simple.json");
+    RetainedResponses retained = context.request().retainedResponses();
+    assertEquals(1, retained.count);
+    assertEquals(15, retained.bytes);
+    assertEquals(1, retained.autoDisposed);
+    assertEquals("{\"foo\": \"bar\"}\n", response2.text());
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> response1.body());
+    assertTrue(e.getMessage().contains("Response has been disposed"), e.getMessage());
+  }
+
   //     server.setRoute("/one-style.css", exchange -> exchange.getResponseBody().close());
   @Test
   void shouldThrowOnNetworkError() {
@@ -696,6 +894,29 @@ public class TestBrowserContextFetch extends TestBase {
     assertEquals(200, response.status());
   }
 
+  @Test
+  void shouldSendFileContentsAsPostData(@TempDir Path tmp) throws ExecutionException, InterruptedException, IOException {
+    Path path = tmp.resolve("body.bin");
+    byte[] bytes = new byte[300 * 1024 + 1];
+    for (int i = 0; i < bytes.length; i++) {
+      bytes[i] = (byte) i;
+    }
+    Files.write(path, bytes);
+    Future<Server.Request> serverRequest = server.futureRequest("/empty.html");
+    APIResponse response = context.request().post(server.EMPTY_PAGE, RequestOptions.create().setData(path));
+    assertEquals(200, response.status());
+    assertArrayEquals(bytes, serverRequest.get().postBody);
+  }
+
+  @Test
+  void shouldSendInputStreamAsPostData() throws ExecutionException, InterruptedException {
+    Future<Server.Request> serverRequest = server.futureRequest("/empty.html");
+    InputStream stream = new ByteArrayInputStream("streamed body".getBytes(StandardCharsets.UTF_8));
+    APIResponse response = context.request().post(server.EMPTY_PAGE, RequestOptions.create().setData(stream));
+    assertEquals(200, response.status());
+    assertEquals("streamed body", new String(serverRequest.get().postBody, StandardCharsets.UTF_8));
+  }
+
   @Test
   void shouldSerializeDataToJsonRegardlessOfContentType() throws ExecutionException, InterruptedException {
     Map<String, Object> data = mapOf(
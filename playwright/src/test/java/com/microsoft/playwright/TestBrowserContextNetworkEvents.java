@@ -16,9 +16,16 @@
 
 package com.microsoft.playwright;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
 import com.sun.net.httpserver.Filter;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -114,4 +121,32 @@ public class TestBrowserContextNetworkEvents extends TestBase {
     assertNull(response.finished());
     assertEquals(asList("request", "response", "requestfinished"), events);
   }
+
+  @Test
+  void shouldCaptureNetworkToFile(@TempDir Path tmpDir) throws IOException {
+    Path path = tmpDir.resolve("capture").resolve("network.ndjson");
+    server.setRoute("/fail", exchange -> exchange.getResponseBody().close());
+    try (NetworkCapture capture = context.captureNetwork(path)) {
+      page.navigate(server.PREFIX + "/one-style.html");
+      page.evaluate("url => fetch(url).catch(e => {})", server.PREFIX + "/fail");
+      page.navigate(server.EMPTY_PAGE);
+    }
+    List<JsonObject> records = new ArrayList<>();
+    for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+      records.add(new Gson().fromJson(line, JsonObject.class));
+    }
+    JsonObject html = records.stream()
+      .filter(r -> r.get("url").getAsString().equals(server.PREFIX + "/one-style.html"))
+      .findFirst().orElseThrow(() -> new AssertionError("No record for one-style.html in " + records));
+    assertEquals("GET", html.get("method").getAsString());
+    assertEquals("document", html.get("resourceType").getAsString());
+    assertEquals(200, html.get("status").getAsInt());
+    assertTrue(html.has("timing"));
+    assertTrue(records.stream().anyMatch(r -> r.get("url").getAsString().equals(server.PREFIX + "/one-style.css")));
+    assertTrue(records.stream().anyMatch(r -> r.get("url").getAsString().equals(server.PREFIX + "/fail") && r.has("failure")));
+
+    int count = records.size();
+    page.reload();
+    assertEquals(count, Files.readAllLines(path, StandardCharsets.UTF_8).size());
+  }
 }
@@ -18,6 +18,7 @@ package com.microsoft.playwright;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.microsoft.playwright.options.Cookie;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
@@ -25,11 +26,14 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 
 import static com.microsoft.playwright.Utils.assertJsonEquals;
 import static com.microsoft.playwright.Utils.mapOf;
 import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -156,6 +160,77 @@ public class TestBrowserContextStorageState extends TestBase {
     context2.close();
   }
 
+  @Test
+  void shouldPickUpChangesToStorageStateFile(@TempDir Path tempDir) throws IOException {
+    Path path = tempDir.resolve("storage-state.json");
+    for (String value : new String[] {"value1", "value2"}) {
+      Files.write(path, ("{ origins: [{ origin: 'https://www.example.com', localStorage: [{ name: 'name1', value: '" +
+        value + "' }] }] }").getBytes(StandardCharsets.UTF_8));
+      BrowserContext context = browser.newContext(new Browser.NewContextOptions().setStorageStatePath(path));
+      Page page = context.newPage();
+      page.route("**/*", route -> {
+        route.fulfill(new Route.FulfillOptions().setBody("<html></html>"));
+      });
+      page.navigate("https://www.example.com");
+      assertEquals(mapOf("name1", value), page.evaluate("window.localStorage"));
+      context.close();
+    }
+  }
+
+  @Test
+  void shouldReturnOnlyChangedCookiesInDelta() {
+    context.addCookies(asList(
+      new Cookie("a", "1").setDomain("example.com").setPath("/"),
+      new Cookie("b", "2").setDomain("example.com").setPath("/")));
+    JsonObject delta = new Gson().fromJson(context.storageStateDelta(), JsonObject.class);
+    assertEquals(2, delta.getAsJsonArray("cookies").size());
+
+    context.addCookies(asList(new Cookie("b", "3").setDomain("example.com").setPath("/")));
+    context.clearCookies(new BrowserContext.ClearCookiesOptions().setName("a"));
+    delta = new Gson().fromJson(context.storageStateDelta(), JsonObject.class);
+    assertEquals(1, delta.getAsJsonArray("cookies").size());
+    assertEquals("3", delta.getAsJsonArray("cookies").get(0).getAsJsonObject().get("value").getAsString());
+    assertEquals(1, delta.getAsJsonArray("removedCookies").size());
+    assertEquals("a", delta.getAsJsonArray("removedCookies").get(0).getAsJsonObject().get("name").getAsString());
+
+    delta = new Gson().fromJson(context.storageStateDelta(), JsonObject.class);
+    assertEquals(0, delta.getAsJsonArray("cookies").size());
+    assertEquals(0, delta.getAsJsonArray("removedCookies").size());
+    assertEquals(0, delta.getAsJsonArray("origins").size());
+  }
+
+  @Test
+  void shouldApplyDeltaToAnotherContext() {
+    BrowserContext target = browser.newContext();
+    target.addCookies(asList(new Cookie("a", "1").setDomain("example.com").setPath("/")));
+    context.addCookies(asList(new Cookie("a", "1").setDomain("example.com").setPath("/")));
+    context.storageStateDelta();
+
+    context.clearCookies();
+    context.addCookies(asList(new Cookie("b", "2").setDomain("example.com").setPath("/")));
+    target.applyStorageStateDelta(context.storageStateDelta());
+    List<Cookie> cookies = target.cookies();
+    assertEquals(1, cookies.size());
+    assertEquals("b", cookies.get(0).name);
+
+    Page page = context.newPage();
+    page.route("**/*", route -> {
+      route.fulfill(new Route.FulfillOptions().setBody("<html></html>"));
+    });
+    page.navigate("https://www.example.com");
+    page.evaluate("() => localStorage['name1'] = 'value1'");
+    target.applyStorageStateDelta(context.storageStateDelta());
+
+    Page targetPage = target.newPage();
+    targetPage.route("**/*", route -> {
+      route.fulfill(new Route.FulfillOptions().setBody("<html></html>"));
+    });
+    targetPage.navigate("https://www.example.com");
+    assertEquals(mapOf("name1", "value1"), targetPage.evaluate("window.localStorage"));
+    assertEquals(1, target.cookies().size());
+    target.close();
+  }
+
   @Test
   void shouldSerialiseStorageStateWithLoneSurrogates() {
     page.navigate(server.EMPTY_PAGE);
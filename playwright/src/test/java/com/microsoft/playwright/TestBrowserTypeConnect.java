@@ -128,6 +128,40 @@ public class TestBrowserTypeConnect extends TestBase {
     }
   }
 
+  @Test
+  void shouldConnectDirectlyWithoutLocalRelay() {
+    System.setProperty("playwright.connect.direct", "true");
+    try {
+      Browser browser = browserType.connect(wsEndpoint);
+      BrowserContext browserContext = browser.newContext();
+      Page page = browserContext.newPage();
+      assertEquals(121, page.evaluate("11 * 11"));
+      page.navigate(server.EMPTY_PAGE);
+      browser.close();
+      assertFalse(browser.isConnected());
+    } finally {
+      System.clearProperty("playwright.connect.direct");
+    }
+  }
+
+  @Test
+  void shouldResolveHttpEndpointWhenConnectingDirectly() {
+    server.setRoute("/remote/json", exchange -> {
+      exchange.sendResponseHeaders(200, 0);
+      try (OutputStreamWriter writer = new OutputStreamWriter(exchange.getResponseBody(), UTF_8)) {
+        writer.write("{\"wsEndpointPath\": \"/ws-path\"}");
+      }
+    });
+    System.setProperty("playwright.connect.direct", "true");
+    try {
+      // The test server doesn't speak WebSocket, the error shows where the transport tried to connect.
+      PlaywrightException e = assertThrows(PlaywrightException.class, () -> browserType.connect(server.PREFIX + "/remote"));
+      assertTrue(e.getMessage().contains("ws://localhost:" + server.PORT + "/remote/ws-path"), e.getMessage());
+    } finally {
+      System.clearProperty("playwright.connect.direct");
+    }
+  }
+
   @Test
   void shouldSupportSlowMo() {
     Browser browser = browserType.connect(wsEndpoint,
@@ -19,8 +19,11 @@ package com.microsoft.playwright;
 import com.microsoft.playwright.options.ServerAddr;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStreamWriter;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.Arrays;
@@ -122,6 +125,44 @@ public class TestNetworkResponse extends TestBase {
     assertTrue(Arrays.equals(expected, response.body()));
   }
 
+  @Test
+  void shouldReturnBodyAsBufferAndStream() throws IOException {
+    Response response = page.navigate(server.PREFIX + "/pptr.png");
+    byte[] expected = Files.readAllBytes(Paths.get("src/test/resources/pptr.png"));
+    ByteBuffer buffer = response.bodyBuffer();
+    assertTrue(buffer.isReadOnly());
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    assertArrayEquals(expected, bytes);
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (InputStream stream = response.bodyStream()) {
+      Utils.copy(stream, out);
+    }
+    assertArrayEquals(expected, out.toByteArray());
+  }
+
+  @Test
+  void shouldNotShareBodyArrayBetweenCalls() {
+    Response response = page.navigate(server.PREFIX + "/simple.json");
+    byte[] body = response.body();
+    body[0] = 'x';
+    assertEquals("{\"foo\": \"bar\"}\n", response.text());
+    assertEquals('{', response.body()[0]);
+  }
+
+  @Test
+  void shouldReportInvalidBodyCacheLimitOnRead() {
+    Response response = page.navigate(server.PREFIX + "/simple.json");
+    System.setProperty("playwright.response.body.cache.limit", "-1");
+    try {
+      PlaywrightException e = assertThrows(PlaywrightException.class, () -> response.body());
+      assertTrue(e.getMessage().contains("playwright.response.body.cache.limit"), e.getMessage());
+    } finally {
+      System.clearProperty("playwright.response.body.cache.limit");
+    }
+    assertEquals("{\"foo\": \"bar\"}\n", response.text());
+  }
+
   @Test
   void shouldReturnBodyWithCompression() throws IOException {
     server.enableGzip("/pptr.png");
@@ -16,6 +16,7 @@
 
 package com.microsoft.playwright;
 
+import com.microsoft.playwright.options.PageMetrics;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIf;
@@ -364,4 +365,24 @@ public class TestPageBasic extends TestBase {
     page.pause();
   }
 
+
+  @Test
+  void shouldReturnPageMetrics() {
+    page.startMetrics();
+    page.navigate(server.PREFIX + "/one-style.html");
+    // loadEventEnd is only set once the load event handlers have returned, which may be after navigate().
+    page.waitForFunction("() => performance.getEntriesByType('navigation')[0].loadEventEnd > 0");
+    PageMetrics metrics = page.metrics();
+    assertEquals(server.PREFIX + "/one-style.html", metrics.url);
+    assertNotNull(metrics.timeToFirstByte);
+    assertTrue(metrics.domContentLoaded > 0);
+    assertTrue(metrics.load >= metrics.domContentLoaded);
+    assertEquals(false, page.evaluate("() => Object.keys(window).some(key => key.includes('playwright'))"));
+    assertNotNull(metrics.longTaskCount);
+    assertTrue(metrics.resources.stream().anyMatch(r -> r.name.equals(server.PREFIX + "/one-style.css")));
+    if (isChromium()) {
+      assertNotNull(metrics.cumulativeLayoutShift);
+      assertNotNull(metrics.jsHeapUsedSize);
+    }
+  }
 }
@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
@@ -159,4 +160,19 @@ public class TestPageEventNetwork extends TestBase {
     assertNull(redirectedFrom.redirectedFrom());
     assertEquals(response.request(), redirectedFrom.redirectedTo());
   }
+
+  @Test
+  void shouldNotifyAllListenersWhenOneIsRemovedDuringDispatch() {
+    List<String> events = new ArrayList<>();
+    Consumer<Request>[] first = new Consumer[1];
+    first[0] = request -> {
+      events.add("first");
+      page.offRequest(first[0]);
+    };
+    page.onRequest(first[0]);
+    page.onRequest(request -> events.add("second"));
+    page.navigate(server.EMPTY_PAGE);
+    page.navigate(server.EMPTY_PAGE);
+    assertEquals(asList("first", "second", "second"), events);
+  }
 }
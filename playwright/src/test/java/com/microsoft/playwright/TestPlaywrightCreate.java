@@ -24,10 +24,12 @@ import java.io.IOException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Map;
 
 import static com.microsoft.playwright.Utils.getBrowserTypeFromEnv;
 import static com.microsoft.playwright.Utils.mapOf;
+import static java.util.Arrays.asList;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class TestPlaywrightCreate {
@@ -50,6 +52,35 @@ public class TestPlaywrightCreate {
     }
   }
 
+  @Test
+  void shouldCreateFromPrestartedDriverProcesses() {
+    System.setProperty("playwright.driver.pool.size", "1");
+    try {
+      for (int i = 0; i < 3; i++) {
+        try (Playwright playwright = Playwright.create()) {
+          assertEquals("chromium", playwright.chromium().name());
+        }
+      }
+    } finally {
+      System.clearProperty("playwright.driver.pool.size");
+    }
+    // With the pool disabled, the spare process is stopped by the next create().
+    try (Playwright playwright = Playwright.create()) {
+      assertEquals("chromium", playwright.chromium().name());
+    }
+  }
+
+  @Test
+  void shouldReportStartupTiming() {
+    try (PlaywrightImpl playwright = PlaywrightImpl.create(null)) {
+      Map<String, Long> phases = playwright.startupTiming().phases();
+      assertEquals(asList("ensureDriverInstalled", "startDriverProcess", "initialize"), new ArrayList<>(phases.keySet()));
+      for (long millis : phases.values()) {
+        assertTrue(millis >= 0, phases.toString());
+      }
+    }
+  }
+
   // This test is too slow, so we don't run it.
   void shouldSupportEnvBrowsersPath(@TempDir Path browsersDir) throws IOException {
     Map<String, String> env = mapOf("PLAYWRIGHT_BROWSERS_PATH", browsersDir.toString());
@@ -320,6 +320,31 @@ public class TestRouteWebSocket {
       page.evaluate("window.log"));
   }
 
+  @Test
+  public void shouldSendAllMessagesInOrder(Page page, Server server) {
+    page.routeWebSocket(Pattern.compile("/.*/"), ws -> {
+      ws.onMessage(frame -> {
+        ws.sendAll(asList("one", "two"));
+        ws.sendAllBinary(asList("three".getBytes(StandardCharsets.UTF_8)));
+      });
+    });
+    setupWS(page, server, webSocketServer.getPort(), "blob");
+
+    page.evaluate("async () => {\n" +
+      "    await window.wsOpened;\n" +
+      "    window.ws.send('go');\n" +
+      "  }");
+
+    page.waitForCondition(() -> (Boolean) page.evaluate("() => window.log.length >= 4"));
+    assertEquals(
+      asList(
+        "open",
+        "message: data=one origin=ws://localhost:" + webSocketServer.getPort() + " lastEventId=",
+        "message: data=two origin=ws://localhost:" + webSocketServer.getPort() + " lastEventId=",
+        "message: data=blob:three origin=ws://localhost:" + webSocketServer.getPort() + " lastEventId="),
+      page.evaluate("window.log"));
+  }
+
   @Test
   public void shouldWorkWithBaseURL(Browser browser, Server server) throws Exception {
     BrowserContext context = browser.newContext(new Browser.NewContextOptions().setBaseURL("http://localhost:" + webSocketServer.getPort()));
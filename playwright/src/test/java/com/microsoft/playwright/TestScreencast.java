@@ -158,6 +158,24 @@ public class TestScreencast extends TestBase {
     }
   }
 
+  @Test
+  void screencastStartShouldNotStayStartedAfterFailure() {
+    BrowserContext context = browser.newContext();
+    Page page = context.newPage();
+    System.setProperty("playwright.screencast.frameQueue", "invalid");
+    try {
+      PlaywrightException e = assertThrows(PlaywrightException.class,
+        () -> page.screencast().start(new Screencast.StartOptions().setOnFrame(data -> {})));
+      assertTrue(e.getMessage().contains("playwright.screencast.frameQueue"), e.getMessage());
+      System.clearProperty("playwright.screencast.frameQueue");
+      page.screencast().start(new Screencast.StartOptions().setOnFrame(data -> {}));
+      page.screencast().stop();
+    } finally {
+      System.clearProperty("playwright.screencast.frameQueue");
+      context.close();
+    }
+  }
+
   @Test
   void screencastStartShouldRecordVideoToPath(@TempDir Path tmpDir) throws Exception {
     Path videoPath = tmpDir.resolve("video.webm");
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import com.microsoft.playwright.assertions.ScreenshotAssertions;
+import com.microsoft.playwright.options.ScreenshotScale;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertScreenshot;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestScreenshotAssertions extends TestBase {
+  @Test
+  void shouldWriteMissingBaseline(@TempDir Path tmpDir) {
+    page.setContent("<div style='width: 50px; height: 50px; background: green'></div>");
+    Path baseline = tmpDir.resolve("baseline.png");
+    AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> assertScreenshot(page).matches(baseline));
+    assertTrue(e.getMessage().contains("didn't exist"), e.getMessage());
+    assertTrue(Files.exists(baseline));
+    assertScreenshot(page).matches(baseline);
+  }
+
+  @Test
+  void shouldFailAndWriteDiffWhenScreenshotChanges(@TempDir Path tmpDir) throws Exception {
+    page.setContent("<div style='width: 50px; height: 50px; background: green'></div>");
+    Path baseline = tmpDir.resolve("baseline.png");
+    Files.write(baseline, page.screenshot(new Page.ScreenshotOptions().setScale(ScreenshotScale.CSS)));
+    page.setContent("<div style='width: 50px; height: 50px; background: red'></div>");
+    AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> assertScreenshot(page).matches(baseline,
+      new ScreenshotAssertions.MatchesOptions().setTimeout(1000)));
+    assertTrue(e.getMessage().contains("Expected: " + baseline), e.getMessage());
+    assertTrue(Files.exists(tmpDir.resolve("baseline-actual.png")));
+    assertTrue(Files.exists(tmpDir.resolve("baseline-diff.png")));
+  }
+
+  @Test
+  void shouldRespectMaxDiffPixels(@TempDir Path tmpDir) throws Exception {
+    page.setContent("<div id=box style='width: 50px; height: 50px; background: green'></div>");
+    Locator box = page.locator("#box");
+    Path baseline = tmpDir.resolve("box.png");
+    Files.write(baseline, box.screenshot(new Locator.ScreenshotOptions().setScale(ScreenshotScale.CSS)));
+    page.evaluate("() => document.querySelector('#box').style.boxShadow = 'inset 0 0 0 1px red'");
+    assertScreenshot(box).matches(baseline, new ScreenshotAssertions.MatchesOptions().setMaxDiffPixels(10_000));
+  }
+}
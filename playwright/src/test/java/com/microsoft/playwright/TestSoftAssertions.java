@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright;
+
+import com.microsoft.playwright.assertions.LocatorAssertions;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.MultipleFailuresError;
+
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertSoftly;
+import static com.microsoft.playwright.assertions.PlaywrightAssertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestSoftAssertions extends TestBase {
+  @Test
+  void shouldPassWhenAllAssertionsMatch() {
+    page.setContent("<input id=name value=John><input id=email value=john@example.com>");
+    assertSoftly(() -> {
+      assertThat(page.locator("#name")).hasValue("John");
+      assertThat(page.locator("#email")).hasValue("john@example.com");
+      assertThat(page).hasURL("about:blank");
+    });
+  }
+
+  @Test
+  void shouldWaitForAllAssertionsConcurrently() {
+    page.setContent("<div id=a></div><div id=b></div>");
+    page.evaluate("() => setTimeout(() => {\n" +
+      "  document.querySelector('#a').textContent = 'A';\n" +
+      "  document.querySelector('#b').textContent = 'B';\n" +
+      "}, 500)");
+    assertSoftly(() -> {
+      assertThat(page.locator("#a")).hasText("A");
+      assertThat(page.locator("#b")).hasText("B");
+    });
+  }
+
+  @Test
+  void shouldReportSingleFailure() {
+    page.setContent("<div>foo</div>");
+    AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> assertSoftly(() -> {
+      assertThat(page.locator("div")).hasText("foo");
+      assertThat(page.locator("div")).hasText("bar", new LocatorAssertions.HasTextOptions().setTimeout(500));
+    }));
+    assertEquals("bar", e.getExpected().getStringRepresentation());
+  }
+
+  @Test
+  void shouldReportAllFailures() {
+    page.setContent("<div>foo</div><span>baz</span>");
+    MultipleFailuresError e = assertThrows(MultipleFailuresError.class, () -> assertSoftly(() -> {
+      assertThat(page.locator("div")).hasText("bar", new LocatorAssertions.HasTextOptions().setTimeout(500));
+      assertThat(page.locator("span")).hasText("qux", new LocatorAssertions.HasTextOptions().setTimeout(500));
+    }));
+    assertEquals(2, e.getFailures().size());
+    assertTrue(e.getFailures().get(0).getMessage().contains("Expected: bar"), e.getMessage());
+    assertTrue(e.getFailures().get(1).getMessage().contains("Expected: qux"), e.getMessage());
+  }
+
+  @Test
+  void shouldCheckAssertionsBeforeActionsInTheBlock() {
+    page.setContent("<div>old</div>");
+    // Without waiting for the assertion first, the action would make it pass.
+    AssertionFailedError e = assertThrows(AssertionFailedError.class, () -> assertSoftly(() -> {
+      assertThat(page.locator("div")).hasText("new", new LocatorAssertions.HasTextOptions().setTimeout(500));
+      page.evaluate("() => document.querySelector('div').textContent = 'new'");
+    }));
+    assertEquals("new", e.getExpected().getStringRepresentation());
+  }
+
+  @Test
+  void shouldReportActionFailureWithAssertionFailures() {
+    page.setContent("<div>foo</div>");
+    PlaywrightException e = assertThrows(PlaywrightException.class, () -> assertSoftly(() -> {
+      assertThat(page.locator("div")).hasText("bar", new LocatorAssertions.HasTextOptions().setTimeout(500));
+      page.locator("span").click(new Locator.ClickOptions().setTimeout(500));
+    }));
+    assertEquals(1, e.getSuppressed().length);
+    assertTrue(e.getSuppressed()[0] instanceof AssertionFailedError, e.getSuppressed()[0].toString());
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.PlaywrightException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestPipeTransport {
+  @AfterEach
+  void clearSystemProperties() {
+    System.clearProperty(PipeTransport.QUEUE_SIZE_PROPERTY);
+    System.clearProperty(PipeTransport.OVERFLOW_PROPERTY);
+  }
+
+  private static byte[] frames(String... messages) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (String message : messages) {
+      byte[] bytes = message.getBytes(UTF_8);
+      out.write(bytes.length);
+      out.write(bytes.length >>> 8);
+      out.write(bytes.length >>> 16);
+      out.write(bytes.length >>> 24);
+      out.write(bytes, 0, bytes.length);
+    }
+    return out.toByteArray();
+  }
+
+  // Polls until the reader has hit the end of the input, which the transport reports as an error.
+  private static List<JsonObject> readAll(PipeTransport transport) {
+    List<JsonObject> messages = new ArrayList<>();
+    try {
+      while (true) {
+        JsonObject message = transport.poll(Duration.ofSeconds(10));
+        assertNotNull(message, "Timed out waiting for messages");
+        messages.add(message);
+      }
+    } catch (PlaywrightException e) {
+      assertTrue(e.getMessage().contains("Failed to read message from driver"), e.getMessage());
+    }
+    return messages;
+  }
+
+  @Test
+  void shouldRejectInvalidQueueSize() {
+    for (String value : new String[] {"0", "-1", "many"}) {
+      System.setProperty(PipeTransport.QUEUE_SIZE_PROPERTY, value);
+      PlaywrightException e = assertThrows(PlaywrightException.class,
+        () -> new PipeTransport(new ByteArrayInputStream(new byte[0]), new ByteArrayOutputStream()));
+      assertTrue(e.getMessage().contains(value), e.getMessage());
+    }
+  }
+
+  @Test
+  void shouldDropOnlyDroppableEventsOnOverflow() throws IOException, InterruptedException {
+    System.setProperty(PipeTransport.QUEUE_SIZE_PROPERTY, "2");
+    System.setProperty(PipeTransport.OVERFLOW_PROPERTY, "drop");
+    String console = "{\"guid\":\"page@1\",\"method\":\"console\",\"params\":{}}";
+    String reply = "{\"id\":1,\"result\":{}}";
+    PipeTransport transport = new PipeTransport(new ByteArrayInputStream(
+      frames(console, console, console, reply, console, console)), new ByteArrayOutputStream());
+    // Give the reader time to fill the queue before anything is consumed.
+    long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+    while (transport.droppedEventCount() < 1 && System.nanoTime() < deadline) {
+      Thread.sleep(10);
+    }
+    List<JsonObject> messages = readAll(transport);
+    transport.close();
+    assertTrue(messages.stream().anyMatch(m -> m.has("id")), "The reply must never be dropped");
+    assertEquals(6, messages.size() + transport.droppedEventCount());
+    assertTrue(transport.droppedEventCount() > 0);
+    assertEquals(2, transport.maxIncomingQueueDepth());
+  }
+
+  @Test
+  void shouldBlockInsteadOfDroppingByDefault() throws IOException {
+    System.setProperty(PipeTransport.QUEUE_SIZE_PROPERTY, "2");
+    String console = "{\"guid\":\"page@1\",\"method\":\"console\",\"params\":{}}";
+    PipeTransport transport = new PipeTransport(new ByteArrayInputStream(
+      frames(console, console, console, console, console)), new ByteArrayOutputStream());
+    List<JsonObject> messages = readAll(transport);
+    transport.close();
+    assertEquals(5, messages.size());
+    assertEquals(0, transport.droppedEventCount());
+  }
+}
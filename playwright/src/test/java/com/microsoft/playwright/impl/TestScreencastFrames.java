@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TestScreencastFrames {
+  private static ScreencastFrameImpl frame(double timestamp) {
+    return new ScreencastFrameImpl(Base64.getEncoder().encodeToString("frame".getBytes(UTF_8)), timestamp, 800, 600);
+  }
+
+  @Test
+  void shouldDecodeFrameDataOnFirstAccess() {
+    // Invalid base64 only fails once the data is requested.
+    ScreencastFrameImpl invalid = new ScreencastFrameImpl("not base64!", 1, 800, 600);
+    assertEquals(1, invalid.timestamp());
+    assertThrows(IllegalArgumentException.class, invalid::data);
+
+    ScreencastFrameImpl valid = frame(2);
+    byte[] data = valid.data();
+    assertEquals("frame", new String(data, UTF_8));
+    assertSame(data, valid.data());
+  }
+
+  @Test
+  void shouldDeliverFramesOnDeliveryThread() throws InterruptedException {
+    List<String> threads = new ArrayList<>();
+    CountDownLatch delivered = new CountDownLatch(3);
+    ScreencastImpl.FrameDeliveryThread thread = new ScreencastImpl.FrameDeliveryThread(frame -> {
+      synchronized (threads) {
+        threads.add(Thread.currentThread().getName());
+      }
+      delivered.countDown();
+    }, 10);
+    thread.start();
+    try {
+      for (int i = 0; i < 3; i++) {
+        thread.deliver(frame(i));
+      }
+      assertTrue(delivered.await(10, TimeUnit.SECONDS));
+      synchronized (threads) {
+        assertEquals(3, threads.size());
+        for (String name : threads) {
+          assertEquals("Playwright-Screencast", name);
+        }
+      }
+    } finally {
+      thread.interrupt();
+    }
+  }
+
+  @Test
+  void shouldDropOldestFramesWhenQueueIsFull() throws InterruptedException {
+    List<Double> timestamps = new ArrayList<>();
+    CountDownLatch delivered = new CountDownLatch(2);
+    ScreencastImpl.FrameDeliveryThread thread = new ScreencastImpl.FrameDeliveryThread(frame -> {
+      synchronized (timestamps) {
+        timestamps.add(frame.timestamp());
+      }
+      delivered.countDown();
+    }, 2);
+    // Not started yet, so nothing is consumed while the frames are queued.
+    for (int i = 1; i <= 5; i++) {
+      thread.deliver(frame(i));
+    }
+    thread.start();
+    try {
+      assertTrue(delivered.await(10, TimeUnit.SECONDS));
+      synchronized (timestamps) {
+        assertEquals(asList(4.0, 5.0), timestamps);
+      }
+    } finally {
+      thread.interrupt();
+    }
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.impl;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TestStorageStateDelta {
+  private static JsonObject json(String text) {
+    return new Gson().fromJson(text, JsonObject.class);
+  }
+
+  @Test
+  void shouldKeepIndexedDBOfChangedOrigins() {
+    JsonObject state = json("{cookies: [], origins: [{origin: 'https://a.com', localStorage: [{name: 'k', value: '1'}], indexedDB: [{name: 'db'}]}]}");
+    JsonObject delta = json("{origins: [{origin: 'https://a.com', localStorage: [{name: 'k', value: '2'}]}]}");
+    JsonObject result = StorageStateDelta.apply(state, delta);
+    assertEquals(json("{cookies: [], origins: [{origin: 'https://a.com', localStorage: [{name: 'k', value: '2'}], indexedDB: [{name: 'db'}]}]}"), result);
+    assertEquals(json("{origins: [{origin: 'https://a.com', localStorage: [{name: 'k', value: '2'}]}]}"), delta);
+  }
+
+  @Test
+  void shouldDropRemovedOrigins() {
+    JsonObject state = json("{cookies: [], origins: [{origin: 'https://a.com', localStorage: [], indexedDB: [{name: 'db'}]}]}");
+    JsonObject result = StorageStateDelta.apply(state, json("{removedOrigins: ['https://a.com']}"));
+    assertEquals(json("{cookies: [], origins: []}"), result);
+  }
+}
@@ -60,6 +60,7 @@ public class TestInstall {
     System.clearProperty("playwright.cli.dir");
     System.clearProperty("playwright.driver.tmpdir");
     System.clearProperty("playwright.nodejs.path");
+    System.clearProperty("playwright.driver.cache.dir");
     // Clear system property to ensure that the default driver is loaded.
     System.clearProperty("playwright.driver.impl");
   }
@@ -156,6 +157,33 @@ public class TestInstall {
     assertTrue(stdout.contains("Version "), stdout);
   }
 
+  @Test
+  void canInstallDriverToExistingDirectory(@TempDir Path tmpDir) throws Exception {
+    Path driverDir = tmpDir.resolve("driver");
+    DriverJar.installDriverTo(driverDir);
+    Path cliJs = driverDir.resolve("package").resolve("cli.js");
+    byte[] expected = Files.readAllBytes(cliJs);
+    Files.write(cliJs, "corrupted".getBytes(StandardCharsets.UTF_8));
+    // Installing again must overwrite changed files and keep the rest.
+    DriverJar.installDriverTo(driverDir);
+    assertArrayEquals(expected, Files.readAllBytes(cliJs));
+  }
+
+  @Test
+  void shouldReuseDriverFromCacheDir(@TempDir Path tmpDir) throws Exception {
+    System.setProperty("playwright.driver.cache.dir", tmpDir.toString());
+    Driver driver1 = Driver.createAndInstall(Collections.emptyMap(), false);
+    assertTrue(driver1.driverDir().startsWith(tmpDir), "Driver path: " + driver1.driverDir() + " cache: " + tmpDir);
+    assertTrue(Files.exists(driver1.driverDir().resolve("package").resolve("cli.js")));
+    assertTrue(Files.exists(driver1.driverDir().resolve(isWindows() ? "node.exe" : "node")));
+
+    Path marker = driver1.driverDir().resolve("marker.txt");
+    Files.write(marker, new byte[0]);
+    Driver driver2 = Driver.createAndInstall(Collections.emptyMap(), false);
+    assertEquals(driver1.driverDir(), driver2.driverDir());
+    assertTrue(Files.exists(marker), "Cached driver should not be extracted again");
+  }
+
   private static String extractNodeJsToTemp() throws URISyntaxException, IOException {
     DriverJar auxDriver = new DriverJar();
     auxDriver.extractDriverToTempDir();
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.microsoft.playwright.junit;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Server;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@FixtureTest
+@UsePlaywright(TestFixtureReuseContext.CustomOptions.class)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+public class TestFixtureReuseContext {
+
+  public static class CustomOptions implements OptionsFactory {
+    @Override
+    public Options getOptions() {
+      return new Options().setReuseContext(true);
+    }
+  }
+
+  @Test
+  @Order(1)
+  public void shouldLeaveStateBehind(Server server, BrowserContext context, Page page) {
+    page.navigate(server.EMPTY_PAGE);
+    page.evaluate("() => { localStorage.setItem('foo', 'bar'); document.cookie = 'name=value'; }");
+    context.newPage();
+    assertEquals(2, context.pages().size());
+  }
+
+  @Test
+  @Order(2)
+  public void shouldResetStateOfReusedContext(Server server, BrowserContext context, Page page) {
+    assertEquals(1, context.pages().size());
+    assertEquals("about:blank", page.url());
+    assertTrue(context.cookies().isEmpty());
+    page.navigate(server.EMPTY_PAGE);
+    assertEquals(null, page.evaluate("() => localStorage.getItem('foo')"));
+  }
+}
@@ -997,6 +997,7 @@ class Interface extends TypeDefinition {
   }
 
   void writeTo(List<String> output, String offset) {
+    int importsStart = output.size();
     // Interfaces with a static factory method, see Method.writeTo.
     if (asList("Playwright", "FormData", "RequestOptions").contains(jsonName) && methods.stream().anyMatch(m -> "create".equals(m.jsonName))) {
       output.add("import com.microsoft.playwright.impl." + jsonName + "Impl;");
@@ -1048,6 +1049,7 @@ class Interface extends TypeDefinition {
       output.add("import com.microsoft.playwright.impl.LocatorAssertionsImpl;");
       output.add("import com.microsoft.playwright.impl.PageAssertionsImpl;");
     }
+    ApiGenerator.javaOnlyApi.writeImports(jsonName, output, importsStart);
     output.add("");
 
     List<String> superInterfaces = new ArrayList<>();
@@ -1070,6 +1072,7 @@ class Interface extends TypeDefinition {
     for (Method m : methods) {
       m.writeTo(output, offset);
     }
+    ApiGenerator.javaOnlyApi.writeMembers(jsonName, output, offset);
     output.add("}");
     output.add("\n");
   }
@@ -1242,13 +1245,128 @@ class Enum extends TypeDefinition {
   }
 }
 
+// Java-only API, not present in api.json, see java-only-api.json. Each entry adds imports and
+// members to the interface with the same name, entries with a "package" are written as new interfaces.
+class JavaOnlyApi {
+  private final JsonObject api;
+
+  JavaOnlyApi(Reader reader) {
+    api = new Gson().fromJson(reader, JsonObject.class);
+  }
+
+  List<String> newInterfaces() {
+    return api.entrySet().stream()
+      .filter(e -> e.getValue().getAsJsonObject().has("package"))
+      .map(Map.Entry::getKey)
+      .collect(toList());
+  }
+
+  String packageName(String name) {
+    return api.getAsJsonObject(name).get("package").getAsString();
+  }
+
+  void writeInterface(String name, List<String> output) {
+    JsonObject entry = api.getAsJsonObject(name);
+    output.add("package " + packageName(name) + ";");
+    output.add("");
+    writeImports(name, output, output.size());
+    output.add("");
+    writeJavadoc(output, "", entry.getAsJsonArray("doc"));
+    output.add("public interface " + name + " {");
+    if (entry.has("options")) {
+      for (JsonElement options : entry.getAsJsonArray("options")) {
+        writeOptions(options.getAsJsonObject(), output, "  ");
+      }
+    }
+    writeMembers(name, output, "  ");
+    output.add("}");
+    output.add("\n");
+  }
+
+  // Keeps the imports sorted when the generated ones are.
+  void writeImports(String name, List<String> output, int importsStart) {
+    JsonObject entry = api.getAsJsonObject(name);
+    if (entry == null || !entry.has("imports")) {
+      return;
+    }
+    for (JsonElement item : entry.getAsJsonArray("imports")) {
+      String line = "import " + item.getAsString() + ";";
+      if (output.subList(importsStart, output.size()).contains(line)) {
+        continue;
+      }
+      int index = importsStart;
+      while (index < output.size() && output.get(index).compareTo(line) < 0) {
+        index++;
+      }
+      output.add(index, line);
+    }
+  }
+
+  void writeMembers(String name, List<String> output, String offset) {
+    JsonObject entry = api.getAsJsonObject(name);
+    if (entry == null) {
+      return;
+    }
+    for (JsonElement item : entry.getAsJsonArray("members")) {
+      JsonObject member = item.getAsJsonObject();
+      writeJavadoc(output, offset, member.getAsJsonArray("doc"));
+      for (JsonElement line : member.getAsJsonArray("code")) {
+        output.add(line.getAsString().isEmpty() ? "" : offset + line.getAsString());
+      }
+    }
+  }
+
+  private static void writeOptions(JsonObject options, List<String> output, String offset) {
+    String className = options.get("name").getAsString();
+    output.add(offset + "class " + className + " {");
+    JsonArray fields = options.getAsJsonArray("fields");
+    for (JsonElement item : fields) {
+      JsonObject field = item.getAsJsonObject();
+      writeJavadoc(output, offset + "  ", field.getAsJsonArray("doc"));
+      output.add(offset + "  public " + field.get("type").getAsString() + " " + field.get("name").getAsString() + ";");
+    }
+    output.add("");
+    for (JsonElement item : fields) {
+      JsonObject field = item.getAsJsonObject();
+      String fieldName = field.get("name").getAsString();
+      writeJavadoc(output, offset + "  ", field.getAsJsonArray("doc"));
+      output.add(offset + "  public " + className + " set" + Element.toTitle(fieldName) + "(" + unboxed(field.get("type").getAsString()) + " " + fieldName + ") {");
+      output.add(offset + "    this." + fieldName + " = " + fieldName + ";");
+      output.add(offset + "    return this;");
+      output.add(offset + "  }");
+    }
+    output.add(offset + "}");
+  }
+
+  private static String unboxed(String type) {
+    switch (type) {
+      case "Boolean": return "boolean";
+      case "Double": return "double";
+      case "Integer": return "int";
+      default: return type;
+    }
+  }
+
+  private static void writeJavadoc(List<String> output, String offset, JsonArray doc) {
+    output.add(offset + "/**");
+    for (JsonElement line : doc) {
+      output.add(offset + " *" + (line.getAsString().isEmpty() ? "" : " ") + line.getAsString());
+    }
+    output.add(offset + " */");
+  }
+}
+
 public class ApiGenerator {
   // TODO: make it an instance field.
   static final Map<String, String> aliases = new HashMap<>();
+  static JavaOnlyApi javaOnlyApi;
 
   ApiGenerator(Reader reader) throws IOException {
     JsonArray api = new Gson().fromJson(reader, JsonArray.class);
     File cwd = FileSystems.getDefault().getPath(".").toFile();
+    try (Reader javaOnlyReader = new FileReader(new File(cwd, "tools/api-generator/src/main/resources/java-only-api.json"))) {
+      javaOnlyApi = new JavaOnlyApi(javaOnlyReader);
+    }
     filterOtherLangs(api, new Stack<>());
 
     File dir = new File(cwd, "playwright/src/main/java/com/microsoft/playwright");
@@ -1262,6 +1380,20 @@ public class ApiGenerator {
     generate(api, assertionsDir, "com.microsoft.playwright.assertions", isAssertion().and(isSoftAssertion().negate()), sharedTypes);
 
     writeTopLevelTypes(sharedTypes, dir, optionsDir, "com.microsoft.playwright");
+    writeJavaOnlyInterfaces(cwd);
+  }
+
+  private void writeJavaOnlyInterfaces(File cwd) throws IOException {
+    for (String name : javaOnlyApi.newInterfaces()) {
+      File targetDir = new File(cwd, "playwright/src/main/java/" + javaOnlyApi.packageName(name).replace('.', '/'));
+      List<String> lines = new ArrayList<>();
+      lines.add(Interface.header);
+      javaOnlyApi.writeInterface(name, lines);
+      String text = String.join("\n", lines);
+      try (FileWriter writer = new FileWriter(new File(targetDir, name + ".java"))) {
+        writer.write(text);
+      }
+    }
   }
 
   private void writeTopLevelTypes(Map<String, TypeDefinition> topLevelTypes, File dir, File optionsDir, String packageName) throws IOException {